@@ -0,0 +1,65 @@
+package net.myr.createimmersivetacz.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.ConfigSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Config#resolveItems} turning the {@code items} list into the identity set of a {@code ConfigSnapshot}, against
+ * the bootstrapped vanilla item registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConfigItemsBenchmark {
+    @Param({"1", "64", "1024"})
+    public int size;
+
+    private List<String> itemStrings;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        List<ResourceLocation> registered = List.copyOf(BuiltInRegistries.ITEM.keySet());
+        itemStrings = new ArrayList<>();
+        for (int i = 0; i < size; i++)
+            itemStrings.add(registered.get(i * 7 % registered.size()).toString());
+    }
+
+    @Benchmark
+    public Set<Item> onLoadItems() {
+        return Config.resolveItems(itemStrings);
+    }
+
+    // The single volatile read every hot path does instead of reading several static fields
+    @Benchmark
+    public int readSnapshot() {
+        ConfigSnapshot config = Config.get();
+        return config.powderFlowBudget() + config.maxDetonationsPerTick();
+    }
+}
@@ -0,0 +1,127 @@
+package net.myr.createimmersivetacz.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.StonecutterRecipe;
+import net.minecraft.world.level.material.Fluids;
+import net.myr.createimmersivetacz.caliber.CaliberRegistry;
+import net.myr.createimmersivetacz.caliber.CaliberSpec;
+import net.myr.createimmersivetacz.recipe.CuttingRecipeIndex;
+import net.myr.createimmersivetacz.recipe.RecipeCaches;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lookups machines run every operation, through the mod's own classes: a casing's caliber
+ * ({@link CaliberRegistry}), a saw's input and filter ({@link CuttingRecipeIndex}) and an AmmoId's result template
+ * ({@link ResultTemplates}), next to the linear recipe scan they replace. The vanilla registries are bootstrapped and
+ * vanilla items stand in for casings, since TaCZ and Create don't register anything outside a running game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LookupBenchmark {
+    // Roughly the shipped calibers, and a pack that adds a few hundred more
+    @Param({"6", "300"})
+    public int calibers;
+
+    private final List<Recipe<?>> recipes = new ArrayList<>();
+    private CaliberRegistry registry;
+    private Item casing;
+    private Item sheet;
+    private ItemStack sheetStack;
+    private ResourceLocation ammoId;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        sheet = Items.COPPER_INGOT;
+        sheetStack = new ItemStack(sheet);
+        List<Item> casings = BuiltInRegistries.ITEM.stream()
+                .filter(item -> item != Items.AIR && item != sheet)
+                .limit(calibers)
+                .toList();
+
+        Map<Item, CaliberSpec> specs = new IdentityHashMap<>();
+        Map<Item, Recipe<?>> byOutput = new IdentityHashMap<>();
+        Map<ResourceLocation, ItemStack> templates = new HashMap<>();
+        for (int i = 0; i < casings.size(); i++) {
+            Item item = casings.get(i);
+            ResourceLocation id = new ResourceLocation("createimmersivetacz", "caliber_" + i);
+            ResourceLocation ammo = new ResourceLocation("tacz", "ammo_" + i);
+            specs.put(item, new CaliberSpec(id, item, ammo, Fluids.WATER, 100, 1, Ingredient.of(sheet), 2, 200));
+
+            Recipe<?> recipe = new StonecutterRecipe(id, "", Ingredient.of(sheet), new ItemStack(item, 2));
+            recipes.add(recipe);
+            byOutput.put(item, recipe);
+
+            ItemStack template = new ItemStack(Items.ARROW);
+            template.getOrCreateTag().putString(ResultTemplates.AMMO_ID, ammo.toString());
+            templates.put(ammo, template);
+        }
+
+        registry = new CaliberRegistry(specs, Map.of());
+        Map<Item, Map<Item, Recipe<?>>> index = new IdentityHashMap<>();
+        index.put(sheet, byOutput);
+        RecipeCaches.publishCuttingIndex(index);
+        RecipeCaches.publishAmmoTemplates(templates);
+
+        casing = casings.get(casings.size() - 1);
+        ammoId = new ResourceLocation("tacz", "ammo_" + (casings.size() - 1));
+    }
+
+    @Benchmark
+    public Object caliberSpec() {
+        return registry.getSpec(casing);
+    }
+
+    @Benchmark
+    public Object cuttingIndex() {
+        return CuttingRecipeIndex.find(sheet, casing);
+    }
+
+    // What the saw falls back to without an index: match every recipe of the type in turn
+    @Benchmark
+    public Object cuttingScan() {
+        for (Recipe<?> recipe : recipes) {
+            if (recipe.getIngredients().get(0).test(sheetStack) && recipe.getResultItem(RegistryAccess.EMPTY).is(casing))
+                return recipe;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public ItemStack resultTemplate() {
+        return ResultTemplates.ammo(ammoId, 1);
+    }
+}
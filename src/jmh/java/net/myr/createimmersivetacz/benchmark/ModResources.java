@@ -0,0 +1,43 @@
+package net.myr.createimmersivetacz.benchmark;
+
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads the JSON files the mod ships under {@code data/createimmersivetacz/<directory>} straight from the build output,
+ * so the benchmarks work on the same files a server loads.
+ */
+final class ModResources {
+    private ModResources() {
+    }
+
+    static List<String> readAll(String directory) throws IOException {
+        String name = "data/" + CreateImmersiveTacz.MOD_ID + "/" + directory;
+        URL url = ModResources.class.getClassLoader().getResource(name);
+        if (url == null)
+            throw new IOException("Missing resource directory " + name);
+        try (Stream<Path> files = Files.walk(Path.of(url.toURI()))) {
+            return files.filter(path -> path.toString().endsWith(".json"))
+                    .sorted()
+                    .map(ModResources::read)
+                    .toList();
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't read " + path, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package net.myr.createimmersivetacz.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.SharedConstants;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.GsonHelper;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.caliber.CaliberSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and serializing every recipe and caliber JSON the mod ships. Turning the parsed recipes into recipe objects
+ * needs Create's serializers, so that part is covered by the reload timings rather than here. Calibers go through
+ * {@link CaliberSpec#fromJson} against the bootstrapped vanilla registries, with vanilla items and fluids standing in
+ * for the casings, powders and sheets only a running game registers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecipeJsonBenchmark {
+    private static final Gson GSON = new Gson();
+    private static final ResourceLocation CALIBER_ID = new ResourceLocation(CreateImmersiveTacz.MOD_ID, "benchmark");
+
+    private List<String> recipes;
+    private List<JsonObject> parsedRecipes;
+    private List<String> calibers;
+
+    @Setup
+    public void setup() throws IOException {
+        recipes = ModResources.readAll("recipes");
+        parsedRecipes = recipes.stream().map(GsonHelper::parse).toList();
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        calibers = ModResources.readAll("calibers").stream().map(RecipeJsonBenchmark::withVanillaIds).toList();
+    }
+
+    private static String withVanillaIds(String caliber) {
+        JsonObject json = GsonHelper.parse(caliber);
+        json.addProperty("casing", "minecraft:iron_nugget");
+        GsonHelper.getAsJsonObject(json, "powder").addProperty("fluid", "minecraft:water");
+        JsonObject ingredient = new JsonObject();
+        ingredient.addProperty("item", "minecraft:copper_ingot");
+        GsonHelper.getAsJsonObject(json, "cutting").add("ingredient", ingredient);
+        return GSON.toJson(json);
+    }
+
+    @Benchmark
+    public void parseRecipes(Blackhole blackhole) {
+        for (String recipe : recipes)
+            blackhole.consume(GsonHelper.parse(recipe));
+    }
+
+    @Benchmark
+    public void serializeRecipes(Blackhole blackhole) {
+        for (JsonElement recipe : parsedRecipes)
+            blackhole.consume(GSON.toJson(recipe));
+    }
+
+    @Benchmark
+    public void parseCalibers(Blackhole blackhole) {
+        for (String caliber : calibers)
+            blackhole.consume(CaliberSpec.fromJson(CALIBER_ID, GsonHelper.parse(caliber)));
+    }
+}
@@ -0,0 +1,80 @@
+package net.myr.createimmersivetacz.benchmark;
+
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.TagParser;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ways a TaCZ result tag such as {@code {AmmoId:"tacz:12g"}} is produced and read: parsed from a recipe's
+ * {@code nbt} string, copied from a {@link ResultTemplates} template, or built on demand for an uncached id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResultNbtBenchmark {
+    @Param({"tacz:12g", "create_armorer:40mmhe", "create_armorer:gas_pistol_ammo"})
+    public String ammoId;
+
+    private String nbt;
+    private CompoundTag template;
+    private Map<ResourceLocation, CompoundTag> templates;
+    private ItemStack stack;
+
+    @Setup
+    public void setup() throws CommandSyntaxException {
+        nbt = "{" + ResultTemplates.AMMO_ID + ":\"" + ammoId + "\"}";
+        template = TagParser.parseTag(nbt);
+        templates = Map.of(new ResourceLocation(ammoId), template);
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        // A vanilla item carries the tag, since TaCZ's ammo isn't registered outside a running game
+        stack = new ItemStack(Items.ARROW);
+        stack.setTag(template.copy());
+    }
+
+    @Benchmark
+    public CompoundTag parseNbtString() throws CommandSyntaxException {
+        return TagParser.parseTag(nbt);
+    }
+
+    @Benchmark
+    public CompoundTag copyTemplate() {
+        return templates.get(ResourceLocation.tryParse(ammoId)).copy();
+    }
+
+    @Benchmark
+    public CompoundTag buildTag() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString(ResultTemplates.AMMO_ID, ammoId);
+        return tag;
+    }
+
+    @Benchmark
+    public ResourceLocation readAmmoId() {
+        return ResultTemplates.getAmmoId(stack);
+    }
+}
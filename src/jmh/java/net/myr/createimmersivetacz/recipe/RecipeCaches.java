@@ -0,0 +1,25 @@
+package net.myr.createimmersivetacz.recipe;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+
+import java.util.Map;
+
+/**
+ * Lets the benchmarks install the recipe caches directly, since building them from a recipe manager needs Create's
+ * recipe types and TaCZ's items to be registered.
+ */
+public final class RecipeCaches {
+    private RecipeCaches() {
+    }
+
+    public static void publishCuttingIndex(Map<Item, Map<Item, Recipe<?>>> index) {
+        CuttingRecipeIndex.publish(index);
+    }
+
+    public static void publishAmmoTemplates(Map<ResourceLocation, ItemStack> ammo) {
+        ResultTemplates.publish(ammo, Map.of(), Map.of());
+    }
+}
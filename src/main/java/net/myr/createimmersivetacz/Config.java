@@ -7,10 +7,14 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.config.ModConfigEvent;
 import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.network.SyncedConfig;
+import net.myr.createimmersivetacz.recipe.RecipeMultipliers;
+import net.myr.createimmersivetacz.stats.StartupReport;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 // An example config class. This is not required, but it's a good idea to have one to keep your config organized.
 // Demonstrates how to use Forge's config APIs
@@ -21,43 +25,200 @@ public class Config
 
     private static final ForgeConfigSpec.BooleanValue LOG_DIRT_BLOCK = BUILDER
             .comment("Whether to log the dirt block on common setup")
-            .define("logDirtBlock", true);
+            .define("logDirtBlock", ConfigSnapshot.DEFAULT_LOG_DIRT_BLOCK);
 
     private static final ForgeConfigSpec.IntValue MAGIC_NUMBER = BUILDER
             .comment("A magic number")
-            .defineInRange("magicNumber", 42, 0, Integer.MAX_VALUE);
+            .defineInRange("magicNumber", ConfigSnapshot.DEFAULT_MAGIC_NUMBER, 0, Integer.MAX_VALUE);
 
     public static final ForgeConfigSpec.ConfigValue<String> MAGIC_NUMBER_INTRODUCTION = BUILDER
             .comment("What you want the introduction message to be for the magic number")
-            .define("magicNumberIntroduction", "The magic number is... ");
+            .define("magicNumberIntroduction", ConfigSnapshot.DEFAULT_MAGIC_NUMBER_INTRODUCTION);
 
     // a list of strings that are treated as resource locations for items
     private static final ForgeConfigSpec.ConfigValue<List<? extends String>> ITEM_STRINGS = BUILDER
             .comment("A list of items to log on common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), Config::validateItemName);
 
+    private static final ForgeConfigSpec.IntValue POWDER_FLOW_BUDGET = BUILDER
+            .comment("How many placed powder fluid blocks may update per dimension each tick; the rest wait for the next tick")
+            .defineInRange("powderFlowBudget", ConfigSnapshot.DEFAULT_POWDER_FLOW_BUDGET, 1, Integer.MAX_VALUE);
+
+    private static final ForgeConfigSpec.BooleanValue VOLATILE_POWDER = BUILDER
+            .comment("Whether placed powder fluids and powder magazines explode when touched by fire or lava")
+            .define("volatilePowder", ConfigSnapshot.DEFAULT_VOLATILE_POWDER);
+
+    private static final ForgeConfigSpec.IntValue MAX_DETONATIONS_PER_TICK = BUILDER
+            .comment("How many merged powder explosions may go off per dimension each tick")
+            .defineInRange("maxDetonationsPerTick", ConfigSnapshot.DEFAULT_MAX_DETONATIONS_PER_TICK, 1, 64);
+
+    private static final ForgeConfigSpec.IntValue POWDER_SETTLE_TICKS = BUILDER
+            .comment("How many ticks a placed powder fluid source must stay undisturbed before it settles into packed powder, 0 to never settle")
+            .defineInRange("powderSettleTicks", ConfigSnapshot.DEFAULT_POWDER_SETTLE_TICKS, 0, Integer.MAX_VALUE);
+
+    private static final ForgeConfigSpec.BooleanValue METRICS_ENABLED = BUILDER
+            .comment("Whether to publish production counters and the mod's tick time in Prometheus text format")
+            .define("metricsEnabled", ConfigSnapshot.DEFAULT_METRICS_ENABLED);
+
+    private static final ForgeConfigSpec.IntValue METRICS_PORT = BUILDER
+            .comment("The localhost port the metrics are served on at /metrics, 0 to only write the metrics file")
+            .defineInRange("metricsPort", ConfigSnapshot.DEFAULT_METRICS_PORT, 0, 65535);
+
+    private static final ForgeConfigSpec.IntValue METRICS_FILE_SECONDS = BUILDER
+            .comment("How often the metrics are written to createimmersivetacz_metrics.prom in the world folder, 0 to never write it")
+            .defineInRange("metricsFileSeconds", ConfigSnapshot.DEFAULT_METRICS_FILE_SECONDS, 0, 86400);
+
     static final ForgeConfigSpec SPEC = BUILDER.build();
 
-    public static boolean logDirtBlock;
-    public static int magicNumber;
-    public static String magicNumberIntroduction;
-    public static Set<Item> items;
+    // Per world, so every server balances its own throughput
+    private static final ForgeConfigSpec.Builder SERVER_BUILDER = new ForgeConfigSpec.Builder();
+
+    private static final ForgeConfigSpec.ConfigValue<List<? extends String>> PROCESSING_TIME_BY_TYPE = SERVER_BUILDER
+            .comment("Multipliers on this mod's recipes and the recipes generated for its calibers, as \"<id>=<multiplier>\" between",
+                    "0.01 and 100. Edits apply from the next operation on, no /reload needed.")
+            .push("recipes")
+            .comment("Processing time multipliers per recipe type, e.g. \"create:cutting=0.5\" or \"createimmersivetacz:batched_ammo_assembly=2\"")
+            .defineListAllowEmpty("processingTimeByType", List.of(), RecipeMultipliers::isValidEntry);
+
+    private static final ForgeConfigSpec.ConfigValue<List<? extends String>> PROCESSING_TIME_BY_CALIBER = SERVER_BUILDER
+            .comment("Processing time multipliers per caliber, e.g. \"createimmersivetacz:40mmhe_casing=3\"")
+            .defineListAllowEmpty("processingTimeByCaliber", List.of(), RecipeMultipliers::isValidEntry);
+
+    private static final ForgeConfigSpec.ConfigValue<List<? extends String>> BATCH_SIZE_BY_TYPE = SERVER_BUILDER
+            .comment("Batch size multipliers per recipe type; batches never grow past one result stack")
+            .defineListAllowEmpty("batchSizeByType", List.of(), RecipeMultipliers::isValidEntry);
+
+    private static final ForgeConfigSpec.ConfigValue<List<? extends String>> BATCH_SIZE_BY_CALIBER = SERVER_BUILDER
+            .comment("Batch size multipliers per caliber")
+            .defineListAllowEmpty("batchSizeByCaliber", List.of(), RecipeMultipliers::isValidEntry);
+
+    static final ForgeConfigSpec SERVER_SPEC = SERVER_BUILDER.pop().build();
+
+    private static volatile ConfigSnapshot current = ConfigSnapshot.DEFAULT;
+    private static volatile RecipeMultipliers recipeMultipliers = RecipeMultipliers.NONE;
+
+    // What the files say, and on a client connected to a remote server what that server says; guarded by LOCK
+    private static final Object LOCK = new Object();
+    private static ConfigSnapshot local = ConfigSnapshot.DEFAULT;
+    private static RecipeMultipliers localMultipliers = RecipeMultipliers.NONE;
+    @Nullable
+    private static SyncedConfig serverValues;
+
+    /**
+     * @return the config as last loaded; hold on to the snapshot rather than calling this for every value that has to
+     * agree with the others
+     */
+    public static ConfigSnapshot get()
+    {
+        return current;
+    }
+
+    /**
+     * @return the recipe multipliers of the running or connected server, or none while no world is loaded
+     */
+    public static RecipeMultipliers getRecipeMultipliers()
+    {
+        return recipeMultipliers;
+    }
+
+    /**
+     * Takes over the fields in {@code mask} from the server this client is connected to, on top of what it sent before.
+     */
+    public static void applyServerValues(SyncedConfig values, int mask)
+    {
+        synchronized (LOCK)
+        {
+            SyncedConfig base = serverValues != null ? serverValues : SyncedConfig.of(local, localMultipliers);
+            serverValues = values.merge(base, mask);
+            publish();
+        }
+    }
+
+    public static void clearServerValues()
+    {
+        synchronized (LOCK)
+        {
+            serverValues = null;
+            publish();
+        }
+    }
+
+    // Callers hold LOCK, so a file reload and a server packet can't publish over each other
+    private static void publish()
+    {
+        current = serverValues == null ? local : serverValues.applyTo(local);
+        recipeMultipliers = serverValues == null ? localMultipliers : serverValues.recipeMultipliers();
+    }
+
+    /**
+     * Converts the list of strings into the set of items a {@link ConfigSnapshot} holds; names that aren't registered
+     * items are left out
+     */
+    public static Set<Item> resolveItems(final List<? extends String> itemNames)
+    {
+        List<Item> items = new ArrayList<>();
+        for (String itemName : itemNames)
+        {
+            ResourceLocation id = ResourceLocation.tryParse(itemName);
+            Item item = id == null ? null : ForgeRegistries.ITEMS.getValue(id);
+            if (item != null)
+                items.add(item);
+        }
+        return ConfigSnapshot.itemSet(items);
+    }
 
     private static boolean validateItemName(final Object obj)
     {
         return obj instanceof final String itemName && ForgeRegistries.ITEMS.containsKey(new ResourceLocation(itemName));
     }
 
+    // Fires on the initial load and again whenever the file is edited on disk
     @SubscribeEvent
     static void onLoad(final ModConfigEvent event)
     {
-        logDirtBlock = LOG_DIRT_BLOCK.get();
-        magicNumber = MAGIC_NUMBER.get();
-        magicNumberIntroduction = MAGIC_NUMBER_INTRODUCTION.get();
+        if (event.getConfig().getSpec() == SERVER_SPEC)
+            loadServer(event);
+        else if (event.getConfig().getSpec() == SPEC && !(event instanceof ModConfigEvent.Unloading))
+            loadCommon(event);
+    }
+
+    private static void loadServer(final ModConfigEvent event)
+    {
+        RecipeMultipliers multipliers = event instanceof ModConfigEvent.Unloading ? RecipeMultipliers.NONE : new RecipeMultipliers(
+                RecipeMultipliers.parse(PROCESSING_TIME_BY_TYPE.get()),
+                RecipeMultipliers.parse(PROCESSING_TIME_BY_CALIBER.get()),
+                RecipeMultipliers.parse(BATCH_SIZE_BY_TYPE.get()),
+                RecipeMultipliers.parse(BATCH_SIZE_BY_CALIBER.get()));
+        synchronized (LOCK)
+        {
+            localMultipliers = multipliers;
+            publish();
+        }
+    }
+
+    private static void loadCommon(final ModConfigEvent event)
+    {
+        long start = System.nanoTime();
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(
+                LOG_DIRT_BLOCK.get(),
+                MAGIC_NUMBER.get(),
+                MAGIC_NUMBER_INTRODUCTION.get(),
+                resolveItems(ITEM_STRINGS.get()),
+                POWDER_FLOW_BUDGET.get(),
+                VOLATILE_POWDER.get(),
+                MAX_DETONATIONS_PER_TICK.get(),
+                POWDER_SETTLE_TICKS.get(),
+                METRICS_ENABLED.get(),
+                METRICS_PORT.get(),
+                METRICS_FILE_SECONDS.get());
+        synchronized (LOCK)
+        {
+            local = snapshot;
+            publish();
+        }
 
-        // convert the list of strings into a set of items
-        items = ITEM_STRINGS.get().stream()
-                .map(itemName -> ForgeRegistries.ITEMS.getValue(new ResourceLocation(itemName)))
-                .collect(Collectors.toSet());
+        if (event instanceof ModConfigEvent.Loading)
+            StartupReport.record(StartupReport.CONFIG_LOAD, System.nanoTime() - start);
     }
 }
@@ -0,0 +1,43 @@
+package net.myr.createimmersivetacz;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSets;
+import net.minecraft.world.item.Item;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * One complete, immutable set of config values. {@link Config} builds a new snapshot whenever the file is loaded or
+ * edited and swaps it in as a whole, so a reader holding a snapshot never sees a mix of old and new values.
+ */
+public record ConfigSnapshot(boolean logDirtBlock, int magicNumber, String magicNumberIntroduction, Set<Item> items,
+                             int powderFlowBudget, boolean volatilePowder, int maxDetonationsPerTick, int powderSettleTicks,
+                             boolean metricsEnabled, int metricsPort, int metricsFileSeconds) {
+
+    // The spec defaults; Config defines its values with these, so the two can't drift apart
+    public static final boolean DEFAULT_LOG_DIRT_BLOCK = true;
+    public static final int DEFAULT_MAGIC_NUMBER = 42;
+    public static final String DEFAULT_MAGIC_NUMBER_INTRODUCTION = "The magic number is... ";
+    public static final int DEFAULT_POWDER_FLOW_BUDGET = 256;
+    public static final boolean DEFAULT_VOLATILE_POWDER = false;
+    public static final int DEFAULT_MAX_DETONATIONS_PER_TICK = 4;
+    public static final int DEFAULT_POWDER_SETTLE_TICKS = 1200;
+    public static final boolean DEFAULT_METRICS_ENABLED = false;
+    public static final int DEFAULT_METRICS_PORT = 9464;
+    public static final int DEFAULT_METRICS_FILE_SECONDS = 60;
+
+    // For anything that reads the config before the file is loaded. Items stay empty until then, since the item
+    // registry isn't available when this class initialises
+    public static final ConfigSnapshot DEFAULT = new ConfigSnapshot(DEFAULT_LOG_DIRT_BLOCK, DEFAULT_MAGIC_NUMBER,
+            DEFAULT_MAGIC_NUMBER_INTRODUCTION, Set.of(), DEFAULT_POWDER_FLOW_BUDGET, DEFAULT_VOLATILE_POWDER,
+            DEFAULT_MAX_DETONATIONS_PER_TICK, DEFAULT_POWDER_SETTLE_TICKS, DEFAULT_METRICS_ENABLED, DEFAULT_METRICS_PORT,
+            DEFAULT_METRICS_FILE_SECONDS);
+
+    /**
+     * @return an unmodifiable set that compares items by identity, like the registries do
+     */
+    public static Set<Item> itemSet(Collection<Item> items) {
+        return ReferenceSets.unmodifiable(new ReferenceOpenHashSet<>(items));
+    }
+}
@@ -1,10 +1,15 @@
 package net.myr.createimmersivetacz;
 
 import com.mojang.logging.LogUtils;
-import net.minecraft.client.renderer.ItemBlockRenderTypes;
-import net.minecraft.client.renderer.RenderType;
+import com.simibubi.create.api.stress.BlockStressValues;
+import com.simibubi.create.content.kinetics.base.ShaftRenderer;
+import com.simibubi.create.content.kinetics.base.SingleAxisRotatingVisual;
+import dev.engine_room.flywheel.lib.visualization.SimpleBlockEntityVisualizer;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.EntityRenderersEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.BuildCreativeModeTabContentsEvent;
 import net.minecraftforge.event.server.ServerStartingEvent;
@@ -16,10 +21,18 @@ import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
+import net.myr.createimmersivetacz.block.ModBlocks;
+import net.myr.createimmersivetacz.block.entity.ModBlockEntities;
+import net.myr.createimmersivetacz.fluid.FluidVisualProfileLoader;
 import net.myr.createimmersivetacz.fluid.ModFluidTypes;
 import net.myr.createimmersivetacz.fluid.ModFluids;
 import net.myr.createimmersivetacz.item.ModCreativeModeTabs;
 import net.myr.createimmersivetacz.item.ModItems;
+import net.myr.createimmersivetacz.network.ModMessages;
+import net.myr.createimmersivetacz.recipe.ModRecipes;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import net.myr.createimmersivetacz.stats.ModMetrics;
+import net.myr.createimmersivetacz.stats.StartupReport;
 import org.slf4j.Logger;
 
 
@@ -29,22 +42,28 @@ public class CreateImmersiveTacz
 {
     // Define mod id in a common place for everything to reference
     public static final String MOD_ID = "createimmersivetacz";
+    public static final String BIG_CANNONS_ID = "createbigcannons";
     // Directly reference a slf4j logger
-    private static final Logger LOGGER = LogUtils.getLogger();
+    public static final Logger LOGGER = LogUtils.getLogger();
     // Create a Deferred Register to hold Blocks which will all be registered under the "examplemod" namespace
 
 
     public CreateImmersiveTacz()
     {
+        long start = System.nanoTime();
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
 
         ModCreativeModeTabs.register(modEventBus);
 
         ModItems.register(modEventBus);
+        ModBlocks.register(modEventBus);
+        ModBlockEntities.register(modEventBus);
 
         ModFluids.register(modEventBus);
         ModFluidTypes.register(modEventBus);
 
+        ModRecipes.register(modEventBus);
+
         modEventBus.addListener(this::commonSetup);
 
         MinecraftForge.EVENT_BUS.register(this);
@@ -52,11 +71,17 @@ public class CreateImmersiveTacz
         modEventBus.addListener(this::addCreative);
 
         ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, Config.SPEC);
+        ModLoadingContext.get().registerConfig(ModConfig.Type.SERVER, Config.SERVER_SPEC);
 
+        StartupReport.record(StartupReport.CONSTRUCT, System.nanoTime() - start);
     }
 
     private void commonSetup(final FMLCommonSetupEvent event)
     {
+        event.enqueueWork(() -> StartupReport.time(StartupReport.COMMON_SETUP, () -> {
+            BlockStressValues.IMPACTS.register(ModBlocks.AMMO_PRESS.get(), () -> 4.0);
+            ModMessages.register();
+        }));
     }
 
     // Add the example block item to the building blocks tab
@@ -69,6 +94,7 @@ public class CreateImmersiveTacz
     @SubscribeEvent
     public void onServerStarting(ServerStartingEvent event)
     {
+        ModMetrics.start(event.getServer());
     }
 
     // You can use EventBusSubscriber to automatically register all static methods in the class annotated with @SubscribeEvent
@@ -78,8 +104,27 @@ public class CreateImmersiveTacz
         @SubscribeEvent
         public static void onClientSetup(FMLClientSetupEvent event)
         {
-            ItemBlockRenderTypes.setRenderLayer(ModFluids.SOURCE_GUNPOWDER.get(), RenderType.solid());
-            ItemBlockRenderTypes.setRenderLayer(ModFluids.FLOWING_GUNPOWDER.get(), RenderType.solid());
+            long start = System.nanoTime();
+            // Profiles are not loaded yet, so this uses the registered defaults until the first resource reload
+            event.enqueueWork(() -> StartupReport.time(StartupReport.RENDER_LAYERS, FluidVisualProfileLoader::applyRenderLayers));
+
+            SimpleBlockEntityVisualizer.builder(ModBlockEntities.AMMO_PRESS.get())
+                    .factory(SingleAxisRotatingVisual::shaft)
+                    .skipVanillaRender(be -> false)
+                    .apply();
+            StartupReport.record(StartupReport.CLIENT_SETUP, System.nanoTime() - start);
+        }
+
+        @SubscribeEvent
+        public static void onRegisterClientReloadListeners(RegisterClientReloadListenersEvent event)
+        {
+            event.registerReloadListener(new FluidVisualProfileLoader());
+        }
+
+        @SubscribeEvent
+        public static void onRegisterRenderers(EntityRenderersEvent.RegisterRenderers event)
+        {
+            event.registerBlockEntityRenderer(ModBlockEntities.AMMO_PRESS.get(), ShaftRenderer::new);
         }
     }
 
@@ -87,4 +132,17 @@ public class CreateImmersiveTacz
         return new ResourceLocation(MOD_ID, name);
     }
 
+    // Result templates are rebuilt on every datapack reload and each call returns a fresh copy
+    public static ItemStack getAmmoTemplate(ResourceLocation ammoId) {
+        return ResultTemplates.ammo(ammoId, 1);
+    }
+
+    public static ItemStack getGunTemplate(ResourceLocation gunId) {
+        return ResultTemplates.gun(gunId);
+    }
+
+    public static ItemStack getAttachmentTemplate(ResourceLocation attachmentId) {
+        return ResultTemplates.attachment(attachmentId);
+    }
+
 }
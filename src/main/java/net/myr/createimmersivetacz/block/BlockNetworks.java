@@ -0,0 +1,73 @@
+package net.myr.createimmersivetacz.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The parts shared by multiblock networks that keep their contents on one controller: picking the controller, finding
+ * what is left connected when a block breaks, and splitting the contents between those parts.
+ */
+public class BlockNetworks {
+    private static final Comparator<BlockPos> CONTROLLER_ORDER = Comparator.comparingInt(BlockPos::getY)
+            .thenComparingInt(BlockPos::getX)
+            .thenComparingInt(BlockPos::getZ);
+
+    /**
+     * @return the lowest member, then the one with the smallest x and z, so every member agrees on it
+     */
+    public static BlockPos pickController(List<BlockPos> members) {
+        return members.stream().min(CONTROLLER_ORDER).orElseThrow();
+    }
+
+    /**
+     * Collects the networks left next to {@code removed} once it is gone, one per separate group of neighbours.
+     */
+    public static List<List<BlockPos>> collectSplit(Level level, BlockPos removed, Predicate<BlockState> filter, int limit) {
+        List<List<BlockPos>> groups = new ArrayList<>();
+        Set<BlockPos> visited = new HashSet<>();
+        for (Direction direction : Direction.values()) {
+            BlockPos neighbour = removed.relative(direction);
+            if (visited.contains(neighbour) || !filter.test(level.getBlockState(neighbour)))
+                continue;
+            List<BlockPos> members = ConnectedBlocks.collect(level, neighbour, filter, limit);
+            visited.addAll(members);
+            groups.add(members);
+        }
+        return groups;
+    }
+
+    /**
+     * Splits {@code total} between {@code groups} in proportion to their size out of the {@code totalSize} blocks the
+     * network had. Each share is multiplied before it is divided and the last group gets the rounding remainder, so
+     * only the share of the blocks no group covers is lost, however small the total is next to the size.
+     *
+     * @return one share per group
+     */
+    public static long[] split(long total, int totalSize, List<List<BlockPos>> groups) {
+        long[] shares = new long[groups.size()];
+        if (groups.isEmpty())
+            return shares;
+        int remaining = 0;
+        for (List<BlockPos> members : groups)
+            remaining += members.size();
+        remaining = Math.min(remaining, totalSize);
+
+        long kept = total - total * (totalSize - remaining) / totalSize;
+        long given = 0;
+        for (int i = 0; i < shares.length - 1; i++) {
+            shares[i] = total * groups.get(i).size() / totalSize;
+            given += shares[i];
+        }
+        shares[shares.length - 1] = kept - given;
+        return shares;
+    }
+}
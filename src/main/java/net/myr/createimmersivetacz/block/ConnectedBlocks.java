@@ -0,0 +1,41 @@
+package net.myr.createimmersivetacz.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class ConnectedBlocks {
+
+    /**
+     * Flood fills from {@code start} across face-adjacent loaded blocks matching {@code filter}, visiting at most
+     * {@code limit} blocks. The start position is always the first element.
+     */
+    public static List<BlockPos> collect(Level level, BlockPos start, Predicate<BlockState> filter, int limit) {
+        List<BlockPos> found = new ArrayList<>();
+        Set<BlockPos> visited = new HashSet<>();
+        ArrayDeque<BlockPos> frontier = new ArrayDeque<>();
+        frontier.add(start.immutable());
+        visited.add(start.immutable());
+
+        while (!frontier.isEmpty() && found.size() < limit) {
+            BlockPos pos = frontier.poll();
+            if (!level.isLoaded(pos) || !filter.test(level.getBlockState(pos)))
+                continue;
+            found.add(pos);
+            for (Direction direction : Direction.values()) {
+                BlockPos next = pos.relative(direction);
+                if (visited.add(next))
+                    frontier.add(next);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,60 @@
+package net.myr.createimmersivetacz.block;
+
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.block.custom.AmmoCrateBlock;
+import net.myr.createimmersivetacz.block.custom.AmmoPressBlock;
+import net.myr.createimmersivetacz.block.custom.PackedPowderBlock;
+import net.myr.createimmersivetacz.block.custom.PowderChuteBlock;
+import net.myr.createimmersivetacz.block.custom.PowderLiquidBlock;
+import net.myr.createimmersivetacz.block.custom.PowderMagazineBlock;
+import net.myr.createimmersivetacz.fluid.ModFluids;
+import net.myr.createimmersivetacz.item.ModItems;
+
+import java.util.function.Supplier;
+
+public class ModBlocks {
+    public static final DeferredRegister<Block> BLOCKS =
+            DeferredRegister.create(ForgeRegistries.BLOCKS, CreateImmersiveTacz.MOD_ID);
+
+    public static final RegistryObject<AmmoPressBlock> AMMO_PRESS = registerBlock("ammo_press",
+            () -> new AmmoPressBlock(BlockBehaviour.Properties.copy(Blocks.IRON_BLOCK).noOcclusion()));
+    public static final RegistryObject<PowderMagazineBlock> POWDER_MAGAZINE = registerBlock("powder_magazine",
+            () -> new PowderMagazineBlock(BlockBehaviour.Properties.copy(Blocks.COPPER_BLOCK)));
+    public static final RegistryObject<AmmoCrateBlock> AMMO_CRATE = registerBlock("ammo_crate",
+            () -> new AmmoCrateBlock(BlockBehaviour.Properties.copy(Blocks.IRON_BLOCK)));
+    public static final RegistryObject<PowderChuteBlock> POWDER_CHUTE = registerBlock("powder_chute",
+            () -> new PowderChuteBlock(BlockBehaviour.Properties.copy(Blocks.IRON_BLOCK)));
+
+    public static final RegistryObject<PowderLiquidBlock> GUNPOWDER_FLUID_BLOCK = BLOCKS.register("gunpowder_fluid_block",
+            () -> new PowderLiquidBlock(ModFluids.SOURCE_GUNPOWDER, BlockBehaviour.Properties.copy(Blocks.WATER).noLootTable()));
+    public static final RegistryObject<PowderLiquidBlock> NITROPOWDER_FLUID_BLOCK = BLOCKS.register("nitropowder_fluid_block",
+            () -> new PowderLiquidBlock(ModFluids.SOURCE_NITROPOWDER, BlockBehaviour.Properties.copy(Blocks.WATER).noLootTable()));
+
+    public static final RegistryObject<PackedPowderBlock> PACKED_GUNPOWDER = BLOCKS.register("packed_gunpowder",
+            () -> new PackedPowderBlock(ModFluids.SOURCE_GUNPOWDER, BlockBehaviour.Properties.copy(Blocks.SAND).noLootTable()));
+    public static final RegistryObject<PackedPowderBlock> PACKED_NITROPOWDER = BLOCKS.register("packed_nitropowder",
+            () -> new PackedPowderBlock(ModFluids.SOURCE_NITROPOWDER, BlockBehaviour.Properties.copy(Blocks.SAND).noLootTable()));
+
+    private static <T extends Block> RegistryObject<T> registerBlock(String name, Supplier<T> block) {
+        RegistryObject<T> toReturn = BLOCKS.register(name, block);
+        registerBlockItem(name, toReturn);
+        return toReturn;
+    }
+
+    private static <T extends Block> RegistryObject<Item> registerBlockItem(String name, RegistryObject<T> block) {
+        return ModItems.ITEMS.register(name, () -> new BlockItem(block.get(), new Item.Properties()));
+    }
+
+    public static void register(IEventBus eventBus) {
+        BLOCKS.register(eventBus);
+    }
+}
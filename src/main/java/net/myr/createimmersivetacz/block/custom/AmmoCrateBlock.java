@@ -0,0 +1,56 @@
+package net.myr.createimmersivetacz.block.custom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.myr.createimmersivetacz.block.entity.AmmoCrateBlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+public class AmmoCrateBlock extends BaseEntityBlock {
+
+    public AmmoCrateBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RenderShape getRenderShape(BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    @Override
+    public @Nullable BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new AmmoCrateBlockEntity(pos, state);
+    }
+
+    // Rounds in hand go in, an empty hand takes out a stack of the first kind of ammo stored
+    @Override
+    public InteractionResult use(BlockState state, Level level, BlockPos pos, Player player, InteractionHand hand, BlockHitResult hit) {
+        if (!(level.getBlockEntity(pos) instanceof AmmoCrateBlockEntity crate))
+            return InteractionResult.PASS;
+        ItemStack held = player.getItemInHand(hand);
+        if (level.isClientSide)
+            return InteractionResult.SUCCESS;
+
+        if (!held.isEmpty()) {
+            ItemStack remainder = crate.insert(held, false);
+            if (remainder.getCount() == held.getCount())
+                return InteractionResult.PASS;
+            player.setItemInHand(hand, remainder);
+            return InteractionResult.CONSUME;
+        }
+
+        int slot = crate.getFirstFilledSlot();
+        if (slot < 0)
+            return InteractionResult.PASS;
+        player.getInventory().placeItemBackInInventory(crate.extract(slot, Integer.MAX_VALUE, false));
+        return InteractionResult.CONSUME;
+    }
+}
@@ -0,0 +1,44 @@
+package net.myr.createimmersivetacz.block.custom;
+
+import com.simibubi.create.content.kinetics.base.HorizontalKineticBlock;
+import com.simibubi.create.foundation.block.IBE;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.myr.createimmersivetacz.block.entity.AmmoPressBlockEntity;
+import net.myr.createimmersivetacz.block.entity.ModBlockEntities;
+
+public class AmmoPressBlock extends HorizontalKineticBlock implements IBE<AmmoPressBlockEntity> {
+
+    public AmmoPressBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    public Direction.Axis getRotationAxis(BlockState state) {
+        return state.getValue(HORIZONTAL_FACING).getAxis();
+    }
+
+    @Override
+    public boolean hasShaftTowards(LevelReader world, BlockPos pos, BlockState state, Direction face) {
+        return face.getAxis() == getRotationAxis(state);
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        IBE.onRemove(state, level, pos, newState);
+    }
+
+    @Override
+    public Class<AmmoPressBlockEntity> getBlockEntityClass() {
+        return AmmoPressBlockEntity.class;
+    }
+
+    @Override
+    public BlockEntityType<? extends AmmoPressBlockEntity> getBlockEntityType() {
+        return ModBlockEntities.AMMO_PRESS.get();
+    }
+}
@@ -0,0 +1,53 @@
+package net.myr.createimmersivetacz.block.custom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.BucketPickup;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FlowingFluid;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.fluid.DetonationScheduler;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * What a powder fluid source settles into once nothing has disturbed it for a while. It is a plain block that never
+ * ticks, and still holds a bucket of its fluid for buckets and pumps to take back.
+ */
+public class PackedPowderBlock extends Block implements BucketPickup {
+    private final Supplier<? extends FlowingFluid> fluid;
+
+    public PackedPowderBlock(Supplier<? extends FlowingFluid> fluid, Properties properties) {
+        super(properties);
+        this.fluid = fluid;
+    }
+
+    public FlowingFluid getFluid() {
+        return fluid.get();
+    }
+
+    @Override
+    public ItemStack pickupBlock(LevelAccessor level, BlockPos pos, BlockState state) {
+        level.setBlock(pos, Blocks.AIR.defaultBlockState(), Block.UPDATE_ALL_IMMEDIATE);
+        return new ItemStack(getFluid().getBucket());
+    }
+
+    @Override
+    public Optional<SoundEvent> getPickupSound() {
+        return Optional.of(SoundEvents.BUCKET_FILL_POWDER_SNOW);
+    }
+
+    @Override
+    public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+        super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+        if (!level.isClientSide && Config.get().volatilePowder() && DetonationScheduler.isIgnitionSource(level.getBlockState(fromPos)))
+            DetonationScheduler.ignitePowder(level, pos, getFluid().getSource(false));
+    }
+}
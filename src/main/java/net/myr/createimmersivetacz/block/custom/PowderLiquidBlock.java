@@ -0,0 +1,27 @@
+package net.myr.createimmersivetacz.block.custom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.LiquidBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FlowingFluid;
+import net.myr.createimmersivetacz.fluid.PowderFlowScheduler;
+
+import java.util.function.Supplier;
+
+/**
+ * A placed powder fluid. Buckets, pumps and anything else replacing the block all go through {@link #onRemove}, which
+ * drops the source's settle timer along with it.
+ */
+public class PowderLiquidBlock extends LiquidBlock {
+    public PowderLiquidBlock(Supplier<? extends FlowingFluid> fluid, Properties properties) {
+        super(fluid, properties);
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (!newState.is(this) || !newState.getFluidState().isSource())
+            PowderFlowScheduler.forget(level, pos);
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+}
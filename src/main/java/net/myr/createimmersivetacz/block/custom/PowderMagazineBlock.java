@@ -0,0 +1,71 @@
+package net.myr.createimmersivetacz.block.custom;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.block.entity.PowderMagazineBlockEntity;
+import net.myr.createimmersivetacz.fluid.DetonationScheduler;
+import org.jetbrains.annotations.Nullable;
+
+public class PowderMagazineBlock extends BaseEntityBlock {
+
+    public PowderMagazineBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RenderShape getRenderShape(BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    @Override
+    public @Nullable BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new PowderMagazineBlockEntity(pos, state);
+    }
+
+    // The block entity only exists once placement finishes, so joining the multiblock waits a tick
+    @Override
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (!oldState.is(this))
+            level.scheduleTick(pos, this, 1);
+    }
+
+    @Override
+    public void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
+        PowderMagazineBlockEntity.reform(level, pos);
+    }
+
+    @Override
+    public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+        super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+        if (!level.isClientSide && Config.get().volatilePowder() && DetonationScheduler.isIgnitionSource(level.getBlockState(fromPos))
+                && level.getBlockEntity(pos) instanceof PowderMagazineBlockEntity magazine)
+            magazine.ignite();
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        if (!state.is(newState.getBlock()) && !level.isClientSide
+                && level.getBlockEntity(pos) instanceof PowderMagazineBlockEntity magazine)
+            magazine.onBroken();
+        super.onRemove(state, level, pos, newState, isMoving);
+    }
+
+    @Override
+    public boolean hasAnalogOutputSignal(BlockState state) {
+        return true;
+    }
+
+    @Override
+    public int getAnalogOutputSignal(BlockState state, Level level, BlockPos pos) {
+        return level.getBlockEntity(pos) instanceof PowderMagazineBlockEntity magazine ? magazine.getComparatorOutput() : 0;
+    }
+}
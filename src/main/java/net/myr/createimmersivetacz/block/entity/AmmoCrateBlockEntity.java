@@ -0,0 +1,217 @@
+package net.myr.createimmersivetacz.block.entity;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.Lazy;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores finished rounds as a plain count per AmmoId instead of item stacks. Automation sees one virtual slot per
+ * AmmoId, built from the cached TaCZ template on demand, plus a trailing empty slot to insert new kinds of ammo into.
+ */
+public class AmmoCrateBlockEntity extends BlockEntity {
+    public static final long CAPACITY = 1 << 20;
+
+    private static final Lazy<Item> AMMO = Lazy.of(() -> ForgeRegistries.ITEMS.getValue(ResultTemplates.AMMO_ITEM));
+
+    // Slots never move once assigned, so handlers iterating the slots stay consistent while rounds come and go
+    private final List<ResourceLocation> ammoIds = new ArrayList<>();
+    private final Object2IntOpenHashMap<String> slots = new Object2IntOpenHashMap<>();
+    private final LongArrayList counts = new LongArrayList();
+    private long total;
+
+    private final LazyOptional<IItemHandler> itemCapability = LazyOptional.of(() -> new CrateItemHandler(this));
+
+    public AmmoCrateBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.AMMO_CRATE.get(), pos, state);
+        slots.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return the AmmoId of a stack the crate can hold, or null if it carries anything besides its AmmoId
+     */
+    @Nullable
+    private static String getAmmoId(ItemStack stack) {
+        if (stack.isEmpty() || stack.getItem() != AMMO.get())
+            return null;
+        CompoundTag tag = stack.getTag();
+        if (tag == null || tag.size() != 1 || !tag.contains(ResultTemplates.AMMO_ID, Tag.TAG_STRING))
+            return null;
+        return tag.getString(ResultTemplates.AMMO_ID);
+    }
+
+    private int getOrCreateSlot(String ammoId) {
+        int slot = slots.getInt(ammoId);
+        if (slot >= 0)
+            return slot;
+        ResourceLocation id = ResourceLocation.tryParse(ammoId);
+        if (id == null)
+            return -1;
+        slot = ammoIds.size();
+        ammoIds.add(id);
+        counts.add(0);
+        slots.put(ammoId, slot);
+        return slot;
+    }
+
+    public ItemStack insert(ItemStack stack, boolean simulate) {
+        String ammoId = getAmmoId(stack);
+        if (ammoId == null)
+            return stack;
+        int inserted = (int) Math.min(stack.getCount(), CAPACITY - total);
+        if (inserted <= 0)
+            return stack;
+        if (!simulate) {
+            int slot = getOrCreateSlot(ammoId);
+            if (slot < 0)
+                return stack;
+            counts.set(slot, counts.getLong(slot) + inserted);
+            total += inserted;
+            setChanged();
+        }
+        return inserted == stack.getCount() ? ItemStack.EMPTY : stack.copyWithCount(stack.getCount() - inserted);
+    }
+
+    public ItemStack extract(int slot, int amount, boolean simulate) {
+        if (slot < 0 || slot >= ammoIds.size() || amount <= 0)
+            return ItemStack.EMPTY;
+        ItemStack stack = ResultTemplates.ammo(ammoIds.get(slot), 1);
+        int extracted = (int) Math.min(Math.min(amount, stack.getMaxStackSize()), counts.getLong(slot));
+        if (extracted <= 0)
+            return ItemStack.EMPTY;
+        if (!simulate) {
+            counts.set(slot, counts.getLong(slot) - extracted);
+            total -= extracted;
+            setChanged();
+        }
+        stack.setCount(extracted);
+        return stack;
+    }
+
+    /**
+     * @return the first slot holding any rounds, or -1 if the crate is empty
+     */
+    public int getFirstFilledSlot() {
+        for (int slot = 0; slot < counts.size(); slot++) {
+            if (counts.getLong(slot) > 0)
+                return slot;
+        }
+        return -1;
+    }
+
+    public long getCount(ResourceLocation ammoId) {
+        int slot = slots.getInt(ammoId.toString());
+        return slot < 0 ? 0 : counts.getLong(slot);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag) {
+        super.saveAdditional(tag);
+        ListTag ammo = new ListTag();
+        for (int slot = 0; slot < ammoIds.size(); slot++) {
+            long count = counts.getLong(slot);
+            if (count <= 0)
+                continue;
+            CompoundTag entry = new CompoundTag();
+            entry.putString("Id", ammoIds.get(slot).toString());
+            entry.putLong("Count", count);
+            ammo.add(entry);
+        }
+        tag.put("Ammo", ammo);
+    }
+
+    @Override
+    public void load(CompoundTag tag) {
+        super.load(tag);
+        ammoIds.clear();
+        slots.clear();
+        counts.clear();
+        total = 0;
+        for (Tag element : tag.getList("Ammo", Tag.TAG_COMPOUND)) {
+            CompoundTag entry = (CompoundTag) element;
+            int slot = getOrCreateSlot(entry.getString("Id"));
+            long count = Math.max(0, entry.getLong("Count"));
+            if (slot < 0 || count == 0)
+                continue;
+            counts.set(slot, counts.getLong(slot) + count);
+            total += count;
+        }
+    }
+
+    @Override
+    public <T> @NotNull LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+        if (cap == ForgeCapabilities.ITEM_HANDLER)
+            return itemCapability.cast();
+        return super.getCapability(cap, side);
+    }
+
+    @Override
+    public void invalidateCaps() {
+        super.invalidateCaps();
+        itemCapability.invalidate();
+    }
+
+    // Any slot accepts any AmmoId, rounds always land in the slot of their own AmmoId
+    private record CrateItemHandler(AmmoCrateBlockEntity crate) implements IItemHandler {
+        @Override
+        public int getSlots() {
+            return crate.ammoIds.size() + 1;
+        }
+
+        @Override
+        public @NotNull ItemStack getStackInSlot(int slot) {
+            if (slot >= crate.ammoIds.size())
+                return ItemStack.EMPTY;
+            long count = crate.counts.getLong(slot);
+            if (count <= 0)
+                return ItemStack.EMPTY;
+            ItemStack stack = ResultTemplates.ammo(crate.ammoIds.get(slot), 1);
+            stack.setCount((int) Math.min(count, stack.getMaxStackSize()));
+            return stack;
+        }
+
+        @Override
+        public @NotNull ItemStack insertItem(int slot, @NotNull ItemStack stack, boolean simulate) {
+            return crate.insert(stack, simulate);
+        }
+
+        @Override
+        public @NotNull ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return crate.extract(slot, amount, simulate);
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return (int) Math.min(CAPACITY, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean isItemValid(int slot, @NotNull ItemStack stack) {
+            return getAmmoId(stack) != null;
+        }
+    }
+}
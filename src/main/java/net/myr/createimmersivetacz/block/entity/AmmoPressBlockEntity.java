@@ -0,0 +1,344 @@
+package net.myr.createimmersivetacz.block.entity;
+
+import com.simibubi.create.content.kinetics.base.KineticBlockEntity;
+import com.simibubi.create.foundation.item.ItemHelper;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.Mth;
+import net.minecraft.world.Containers;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.templates.FluidTank;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.items.ItemStackHandler;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.caliber.CaliberRegistry;
+import net.myr.createimmersivetacz.fluid.ModFluidTypes;
+import net.myr.createimmersivetacz.item.ModItems;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssemblyRecipe;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import net.myr.createimmersivetacz.stats.TickTimer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Primes and fills casings in one machine, driven by the same {@link BatchedAmmoAssemblyRecipe}s the deployer and spout
+ * use. Every operation presses several rounds at once, more the faster the press spins.
+ * <p>
+ * While its chunk is unloaded the press does not tick. Instead it remembers the speed it ran at when it was saved, and
+ * once loaded again works out how many operations it missed, limited by the casings, primers and powder it had buffered.
+ * Rounds that do not fit the output slot wait in a backlog that refills the slot as it is emptied.
+ */
+public class AmmoPressBlockEntity extends KineticBlockEntity {
+    public static final int CASING_SLOT = 0;
+    public static final int PRIMER_SLOT = 1;
+    public static final int OUTPUT_SLOT = 2;
+    public static final int TANK_CAPACITY = 4000;
+
+    // Progress is accumulated in RPM, so one operation takes 64 ticks at 64 RPM and 16 ticks at 256 RPM
+    private static final int OPERATION_PROGRESS = 4096;
+    private static final int RPM_PER_EXTRA_ROUND = 64;
+    private static final int MAX_ROUNDS_PER_OPERATION = 8;
+
+    private final ItemStackHandler inventory = new ItemStackHandler(3) {
+        @Override
+        public boolean isItemValid(int slot, @NotNull ItemStack stack) {
+            return switch (slot) {
+                case CASING_SLOT -> isCasing(stack);
+                case PRIMER_SLOT -> stack.is(ModItems.PRIMER.get());
+                default -> false;
+            };
+        }
+
+        @Override
+        protected void onContentsChanged(int slot) {
+            setChanged();
+        }
+    };
+
+    private final FluidTank tank = new FluidTank(TANK_CAPACITY, ModFluidTypes::isPowder) {
+        @Override
+        protected void onContentsChanged() {
+            setChanged();
+        }
+    };
+
+    private final LazyOptional<IItemHandler> itemCapability = LazyOptional.of(() -> new PressItemHandler(inventory));
+    private final LazyOptional<IFluidHandler> fluidCapability = LazyOptional.of(() -> tank);
+
+    @Nullable
+    private BatchedAmmoAssemblyRecipe lastRecipe;
+    private int progress;
+
+    private ItemStack backlog = ItemStack.EMPTY;
+    private int backlogCount;
+    private float savedSpeed;
+    private long savedGameTime = -1;
+
+    public AmmoPressBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.AMMO_PRESS.get(), pos, state);
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        if (level != null && !level.isClientSide && savedGameTime >= 0 && savedSpeed > 0)
+            catchUp(level.getGameTime() - savedGameTime, savedSpeed);
+        savedGameTime = -1;
+    }
+
+    @Override
+    public void tick() {
+        super.tick();
+        if (level == null || level.isClientSide)
+            return;
+        long start = TickTimer.begin();
+        tickPress();
+        TickTimer.end(start, "ammo_press", level, worldPosition);
+    }
+
+    private void tickPress() {
+        if (backlogCount > 0) {
+            drainBacklog();
+            if (backlogCount > 0)
+                return;
+        }
+
+        float speed = Math.abs(getSpeed());
+        if (speed == 0 || !isSpeedRequirementFulfilled())
+            return;
+
+        BatchedAmmoAssemblyRecipe recipe = findRecipe();
+        if (recipe == null) {
+            progress = 0;
+            return;
+        }
+
+        progress += (int) speed;
+        if (progress < getOperationProgress(recipe))
+            return;
+        progress = 0;
+        press(recipe, getRoundsPerOperation(speed));
+    }
+
+    // Scaled by the server config's processing time multiplier for batched assembly and the recipe's caliber
+    private static int getOperationProgress(BatchedAmmoAssemblyRecipe recipe) {
+        return Config.getRecipeMultipliers().scaleProcessingTime(recipe, OPERATION_PROGRESS);
+    }
+
+    public static int getRoundsPerOperation(float speed) {
+        return Mth.clamp(1 + (int) (Math.abs(speed) / RPM_PER_EXTRA_ROUND), 1, MAX_ROUNDS_PER_OPERATION);
+    }
+
+    private void press(BatchedAmmoAssemblyRecipe recipe, int maxRounds) {
+        ItemStack casings = inventory.getStackInSlot(CASING_SLOT);
+        ItemStack primers = inventory.getStackInSlot(PRIMER_SLOT);
+        int rounds = Math.min(maxRounds, recipe.getPrimingBatch(casings.getCount(), primers.getCount()));
+        rounds = Math.min(rounds, tank.getFluidAmount() / recipe.getPowderAmount());
+
+        ItemStack output = inventory.getStackInSlot(OUTPUT_SLOT);
+        ItemStack result = recipe.getResult(1);
+        if (!output.isEmpty()) {
+            if (!ItemHandlerHelper.canItemStacksStack(output, result))
+                return;
+            rounds = Math.min(rounds, (output.getMaxStackSize() - output.getCount()) / result.getCount());
+        }
+        if (rounds <= 0)
+            return;
+
+        casings.shrink(rounds);
+        primers.shrink(rounds * recipe.getPrimerCount());
+        ProductionStats.recordPowderConsumed(level, tank.drain(rounds * recipe.getPowderAmount(), IFluidHandler.FluidAction.EXECUTE));
+        if (output.isEmpty())
+            inventory.setStackInSlot(OUTPUT_SLOT, recipe.getResult(rounds));
+        else
+            output.grow(rounds * result.getCount());
+        ProductionStats.record(level, recipe.getId(), recipe.getResult(rounds));
+
+        setChanged();
+        sendData();
+    }
+
+    private void catchUp(long elapsedTicks, float speed) {
+        BatchedAmmoAssemblyRecipe recipe = findRecipe();
+        if (recipe == null || elapsedTicks <= 0)
+            return;
+
+        long operations = (progress + elapsedTicks * (long) speed) / getOperationProgress(recipe);
+        long rounds = operations * getRoundsPerOperation(speed);
+        ItemStack casings = inventory.getStackInSlot(CASING_SLOT);
+        ItemStack primers = inventory.getStackInSlot(PRIMER_SLOT);
+        rounds = Math.min(rounds, casings.getCount());
+        rounds = Math.min(rounds, primers.getCount() / recipe.getPrimerCount());
+        rounds = Math.min(rounds, tank.getFluidAmount() / recipe.getPowderAmount());
+        ItemStack result = recipe.getResult(1);
+        if (rounds <= 0 || backlogCount > 0 && !ItemHandlerHelper.canItemStacksStack(backlog, result))
+            return;
+
+        int produced = (int) rounds;
+        casings.shrink(produced);
+        primers.shrink(produced * recipe.getPrimerCount());
+        ProductionStats.recordPowderConsumed(level, tank.drain(produced * recipe.getPowderAmount(), IFluidHandler.FluidAction.EXECUTE));
+        progress = 0;
+
+        backlog = result.copyWithCount(1);
+        backlogCount += produced * result.getCount();
+        ProductionStats.record(level, recipe.getId(), result.copyWithCount(produced * result.getCount()));
+        drainBacklog();
+        setChanged();
+    }
+
+    private void drainBacklog() {
+        ItemStack output = inventory.getStackInSlot(OUTPUT_SLOT);
+        if (!output.isEmpty() && !ItemHandlerHelper.canItemStacksStack(output, backlog))
+            return;
+        int moved = Math.min(backlogCount, backlog.getMaxStackSize() - output.getCount());
+        if (moved <= 0)
+            return;
+        if (output.isEmpty())
+            inventory.setStackInSlot(OUTPUT_SLOT, backlog.copyWithCount(moved));
+        else
+            output.grow(moved);
+        backlogCount -= moved;
+        if (backlogCount == 0)
+            backlog = ItemStack.EMPTY;
+        setChanged();
+        sendData();
+    }
+
+    @Nullable
+    private BatchedAmmoAssemblyRecipe findRecipe() {
+        if (matches(lastRecipe))
+            return lastRecipe;
+        lastRecipe = CaliberRegistry.get().getBatchedRecipe(inventory.getStackInSlot(CASING_SLOT).getItem());
+        if (matches(lastRecipe))
+            return lastRecipe;
+        lastRecipe = null;
+        for (BatchedAmmoAssemblyRecipe recipe : level.getRecipeManager().getAllRecipesFor(BatchedAmmoAssemblyRecipe.Type.INSTANCE)) {
+            if (matches(recipe)) {
+                lastRecipe = recipe;
+                break;
+            }
+        }
+        return lastRecipe;
+    }
+
+    private boolean matches(@Nullable BatchedAmmoAssemblyRecipe recipe) {
+        return recipe != null
+                && recipe.getCasing().test(inventory.getStackInSlot(CASING_SLOT))
+                && recipe.getPrimer().test(inventory.getStackInSlot(PRIMER_SLOT))
+                && recipe.matchesPowder(tank.getFluid());
+    }
+
+    private boolean isCasing(ItemStack stack) {
+        if (level == null || BatchedAmmoAssemblyRecipe.isPrimed(stack))
+            return false;
+        if (CaliberRegistry.get().getSpec(stack.getItem()) != null)
+            return true;
+        for (BatchedAmmoAssemblyRecipe recipe : level.getRecipeManager().getAllRecipesFor(BatchedAmmoAssemblyRecipe.Type.INSTANCE)) {
+            if (recipe.getCasing().test(stack))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        ItemHelper.dropContents(level, worldPosition, inventory);
+        while (backlogCount > 0) {
+            int count = Math.min(backlogCount, backlog.getMaxStackSize());
+            Containers.dropItemStack(level, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
+                    backlog.copyWithCount(count));
+            backlogCount -= count;
+        }
+    }
+
+    @Override
+    protected void write(CompoundTag compound, boolean clientPacket) {
+        compound.put("Inventory", inventory.serializeNBT());
+        compound.put("Tank", tank.writeToNBT(new CompoundTag()));
+        compound.putInt("Progress", progress);
+        if (!clientPacket) {
+            if (backlogCount > 0) {
+                compound.put("Backlog", backlog.save(new CompoundTag()));
+                compound.putInt("BacklogCount", backlogCount);
+            }
+            if (level != null) {
+                boolean running = getSpeed() != 0 && isSpeedRequirementFulfilled() && findRecipe() != null;
+                compound.putFloat("SavedSpeed", running ? Math.abs(getSpeed()) : 0);
+                compound.putLong("SavedGameTime", level.getGameTime());
+            }
+        }
+        super.write(compound, clientPacket);
+    }
+
+    @Override
+    protected void read(CompoundTag compound, boolean clientPacket) {
+        inventory.deserializeNBT(compound.getCompound("Inventory"));
+        tank.readFromNBT(compound.getCompound("Tank"));
+        progress = compound.getInt("Progress");
+        if (!clientPacket) {
+            backlog = ItemStack.of(compound.getCompound("Backlog"));
+            backlogCount = backlog.isEmpty() ? 0 : compound.getInt("BacklogCount");
+            savedSpeed = compound.getFloat("SavedSpeed");
+            savedGameTime = compound.contains("SavedGameTime") ? compound.getLong("SavedGameTime") : -1;
+        }
+        super.read(compound, clientPacket);
+    }
+
+    @Override
+    public <T> @NotNull LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+        if (cap == ForgeCapabilities.ITEM_HANDLER)
+            return itemCapability.cast();
+        if (cap == ForgeCapabilities.FLUID_HANDLER)
+            return fluidCapability.cast();
+        return super.getCapability(cap, side);
+    }
+
+    @Override
+    public void invalidateCaps() {
+        super.invalidateCaps();
+        itemCapability.invalidate();
+        fluidCapability.invalidate();
+    }
+
+    // Automation may only insert into the input slots and only extract finished rounds
+    private record PressItemHandler(ItemStackHandler inventory) implements IItemHandler {
+        @Override
+        public int getSlots() {
+            return inventory.getSlots();
+        }
+
+        @Override
+        public @NotNull ItemStack getStackInSlot(int slot) {
+            return inventory.getStackInSlot(slot);
+        }
+
+        @Override
+        public @NotNull ItemStack insertItem(int slot, @NotNull ItemStack stack, boolean simulate) {
+            return slot == OUTPUT_SLOT ? stack : inventory.insertItem(slot, stack, simulate);
+        }
+
+        @Override
+        public @NotNull ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return slot == OUTPUT_SLOT ? inventory.extractItem(slot, amount, simulate) : ItemStack.EMPTY;
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return inventory.getSlotLimit(slot);
+        }
+
+        @Override
+        public boolean isItemValid(int slot, @NotNull ItemStack stack) {
+            return slot != OUTPUT_SLOT && inventory.isItemValid(slot, stack);
+        }
+    }
+}
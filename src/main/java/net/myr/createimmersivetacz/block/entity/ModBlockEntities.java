@@ -0,0 +1,31 @@
+package net.myr.createimmersivetacz.block.entity;
+
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.block.ModBlocks;
+
+public class ModBlockEntities {
+    public static final DeferredRegister<BlockEntityType<?>> BLOCK_ENTITIES =
+            DeferredRegister.create(ForgeRegistries.BLOCK_ENTITY_TYPES, CreateImmersiveTacz.MOD_ID);
+
+    public static final RegistryObject<BlockEntityType<AmmoPressBlockEntity>> AMMO_PRESS =
+            BLOCK_ENTITIES.register("ammo_press", () ->
+                    BlockEntityType.Builder.of(AmmoPressBlockEntity::new, ModBlocks.AMMO_PRESS.get()).build(null));
+    public static final RegistryObject<BlockEntityType<PowderMagazineBlockEntity>> POWDER_MAGAZINE =
+            BLOCK_ENTITIES.register("powder_magazine", () ->
+                    BlockEntityType.Builder.of(PowderMagazineBlockEntity::new, ModBlocks.POWDER_MAGAZINE.get()).build(null));
+    public static final RegistryObject<BlockEntityType<AmmoCrateBlockEntity>> AMMO_CRATE =
+            BLOCK_ENTITIES.register("ammo_crate", () ->
+                    BlockEntityType.Builder.of(AmmoCrateBlockEntity::new, ModBlocks.AMMO_CRATE.get()).build(null));
+    public static final RegistryObject<BlockEntityType<PowderChuteBlockEntity>> POWDER_CHUTE =
+            BLOCK_ENTITIES.register("powder_chute", () ->
+                    BlockEntityType.Builder.of(PowderChuteBlockEntity::new, ModBlocks.POWDER_CHUTE.get()).build(null));
+
+    public static void register(IEventBus eventBus) {
+        BLOCK_ENTITIES.register(eventBus);
+    }
+}
@@ -0,0 +1,330 @@
+package net.myr.createimmersivetacz.block.entity;
+
+import com.simibubi.create.content.processing.basin.BasinBlockEntity;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.Containers;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.block.BlockNetworks;
+import net.myr.createimmersivetacz.block.ConnectedBlocks;
+import net.myr.createimmersivetacz.block.ModBlocks;
+import net.myr.createimmersivetacz.stats.TickTimer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One block of a powder chute network. Powder put into any chute joins a single count per item kept on the network's
+ * controller, and the controller pushes it straight into every basin touching the network. The basins are found once
+ * and only looked up again when a chute or one of its neighbours changes.
+ */
+public class PowderChuteBlockEntity extends BlockEntity {
+    public static final TagKey<Item> CHUTE_POWDERS = ItemTags.create(new ResourceLocation(CreateImmersiveTacz.MOD_ID, "chute_powders"));
+    public static final long CAPACITY_PER_BLOCK = 1024;
+    public static final int MAX_SIZE = 1024;
+
+    private static final int DELIVERY_INTERVAL = 10;
+
+    @Nullable
+    private BlockPos controller;
+
+    // Only meaningful on the controller
+    private final Object2LongOpenHashMap<Item> counts = new Object2LongOpenHashMap<>();
+    private int size = 1;
+    @Nullable
+    private List<BlockPos> targets;
+    private int nextTarget;
+
+    private final LazyOptional<IItemHandler> itemCapability = LazyOptional.of(() -> new ChuteItemHandler(this));
+
+    public PowderChuteBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.POWDER_CHUTE.get(), pos, state);
+    }
+
+    public static void tick(Level level, BlockPos pos, BlockState state, PowderChuteBlockEntity chute) {
+        // Cheapest checks first: most ticks are off-interval, and members never need their controller looked up here
+        if (level.getGameTime() % DELIVERY_INTERVAL != 0 || !chute.isController() || chute.counts.isEmpty())
+            return;
+        long start = TickTimer.begin();
+        chute.deliver();
+        TickTimer.end(start, "powder_chute", level, pos);
+    }
+
+    private void deliver() {
+        if (targets == null)
+            targets = findTargets();
+        if (targets.isEmpty())
+            return;
+
+        // Each delivery starts at the next basin, so a busy first basin can't starve the rest
+        for (int i = 0; i < targets.size() && !counts.isEmpty(); i++) {
+            BlockPos target = targets.get((nextTarget + i) % targets.size());
+            if (!(level.getBlockEntity(target) instanceof BasinBlockEntity basin))
+                continue;
+            IItemHandler inventory = basin.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.UP).orElse(null);
+            if (inventory != null)
+                insertInto(inventory);
+        }
+        nextTarget = (nextTarget + 1) % targets.size();
+        setChanged();
+    }
+
+    private void insertInto(IItemHandler inventory) {
+        var iterator = counts.object2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Object2LongMap.Entry<Item> entry = iterator.next();
+            ItemStack stack = new ItemStack(entry.getKey(), (int) Math.min(entry.getLongValue(), entry.getKey().getMaxStackSize()));
+            int inserted = stack.getCount() - ItemHandlerHelper.insertItem(inventory, stack, false).getCount();
+            if (inserted <= 0)
+                continue;
+            long left = entry.getLongValue() - inserted;
+            if (left <= 0)
+                iterator.remove();
+            else
+                entry.setValue(left);
+        }
+    }
+
+    private List<BlockPos> findTargets() {
+        List<BlockPos> found = new ArrayList<>();
+        Set<BlockPos> seen = new HashSet<>();
+        for (BlockPos pos : collect(level, worldPosition)) {
+            for (Direction direction : Direction.values()) {
+                BlockPos neighbour = pos.relative(direction);
+                if (seen.add(neighbour) && level.getBlockEntity(neighbour) instanceof BasinBlockEntity)
+                    found.add(neighbour);
+            }
+        }
+        return List.copyOf(found);
+    }
+
+    /**
+     * Called when a chute of this network or a block next to one changes, so the basins are looked up again.
+     */
+    public void invalidateTargets() {
+        getController().targets = null;
+    }
+
+    /**
+     * Rebuilds the network containing {@code start}, merging the contents of every network it now connects.
+     */
+    public static void reform(Level level, BlockPos start) {
+        List<BlockPos> members = collect(level, start);
+        Object2LongOpenHashMap<Item> counts = new Object2LongOpenHashMap<>();
+        Set<BlockPos> controllers = new HashSet<>();
+        for (BlockPos pos : members) {
+            if (level.getBlockEntity(pos) instanceof PowderChuteBlockEntity chute) {
+                PowderChuteBlockEntity controller = chute.getController();
+                if (controllers.add(controller.worldPosition))
+                    controller.counts.object2LongEntrySet().forEach(entry -> counts.addTo(entry.getKey(), entry.getLongValue()));
+            }
+        }
+        form(level, members, counts);
+    }
+
+    /**
+     * Called just before this chute is removed. Whatever is left connected splits the contents in proportion to its
+     * size, and the share of the removed chute spills out where it stood.
+     */
+    public void onBroken() {
+        if (level == null)
+            return;
+        PowderChuteBlockEntity controller = getController();
+        Object2LongOpenHashMap<Item> total = new Object2LongOpenHashMap<>(controller.counts);
+        int totalSize = Math.max(1, controller.size);
+        Object2LongOpenHashMap<Item> left = new Object2LongOpenHashMap<>(total);
+
+        List<List<BlockPos>> groups = BlockNetworks.collectSplit(level, worldPosition, PowderChuteBlockEntity::isChute, MAX_SIZE);
+        List<Object2LongOpenHashMap<Item>> shares = new ArrayList<>();
+        for (int g = 0; g < groups.size(); g++)
+            shares.add(new Object2LongOpenHashMap<>());
+        total.object2LongEntrySet().forEach(entry -> {
+            long[] split = BlockNetworks.split(entry.getLongValue(), totalSize, groups);
+            for (int g = 0; g < split.length; g++) {
+                shares.get(g).put(entry.getKey(), split[g]);
+                left.addTo(entry.getKey(), -split[g]);
+            }
+        });
+        for (int g = 0; g < groups.size(); g++)
+            form(level, groups.get(g), shares.get(g));
+
+        left.object2LongEntrySet().forEach(entry -> {
+            long remaining = entry.getLongValue();
+            while (remaining > 0) {
+                int count = (int) Math.min(remaining, entry.getKey().getMaxStackSize());
+                Containers.dropItemStack(level, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
+                        new ItemStack(entry.getKey(), count));
+                remaining -= count;
+            }
+        });
+    }
+
+    private static boolean isChute(BlockState state) {
+        return state.is(ModBlocks.POWDER_CHUTE.get());
+    }
+
+    private static List<BlockPos> collect(Level level, BlockPos start) {
+        return ConnectedBlocks.collect(level, start, PowderChuteBlockEntity::isChute, MAX_SIZE);
+    }
+
+    private static void form(Level level, List<BlockPos> members, Object2LongOpenHashMap<Item> counts) {
+        if (members.isEmpty())
+            return;
+        BlockPos controllerPos = BlockNetworks.pickController(members);
+
+        for (BlockPos pos : members) {
+            if (!(level.getBlockEntity(pos) instanceof PowderChuteBlockEntity chute))
+                continue;
+            chute.controller = controllerPos;
+            chute.size = members.size();
+            chute.counts.clear();
+            chute.targets = null;
+            if (pos.equals(controllerPos))
+                counts.object2LongEntrySet().forEach(entry -> {
+                    if (entry.getLongValue() > 0)
+                        chute.counts.put(entry.getKey(), entry.getLongValue());
+                });
+            chute.setChanged();
+        }
+    }
+
+    private boolean isController() {
+        return controller == null || controller.equals(worldPosition);
+    }
+
+    public PowderChuteBlockEntity getController() {
+        if (controller == null || controller.equals(worldPosition) || level == null)
+            return this;
+        return level.getBlockEntity(controller) instanceof PowderChuteBlockEntity chute ? chute : this;
+    }
+
+    public long getCapacity() {
+        return size * CAPACITY_PER_BLOCK;
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (long count : counts.values())
+            total += count;
+        return total;
+    }
+
+    public static boolean isPowder(ItemStack stack) {
+        return !stack.hasTag() && stack.is(CHUTE_POWDERS);
+    }
+
+    private ItemStack insert(ItemStack stack, boolean simulate) {
+        if (stack.isEmpty() || !isPowder(stack))
+            return stack;
+        int inserted = (int) Math.min(stack.getCount(), getCapacity() - getTotal());
+        if (inserted <= 0)
+            return stack;
+        if (!simulate) {
+            counts.addTo(stack.getItem(), inserted);
+            setChanged();
+        }
+        return inserted == stack.getCount() ? ItemStack.EMPTY : stack.copyWithCount(stack.getCount() - inserted);
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag) {
+        super.saveAdditional(tag);
+        if (controller != null)
+            tag.putLong("Controller", controller.asLong());
+        tag.putInt("Size", size);
+        ListTag contents = new ListTag();
+        counts.object2LongEntrySet().forEach(entry -> {
+            CompoundTag item = new CompoundTag();
+            item.putString("Id", ForgeRegistries.ITEMS.getKey(entry.getKey()).toString());
+            item.putLong("Count", entry.getLongValue());
+            contents.add(item);
+        });
+        tag.put("Contents", contents);
+    }
+
+    @Override
+    public void load(CompoundTag tag) {
+        super.load(tag);
+        controller = tag.contains("Controller") ? BlockPos.of(tag.getLong("Controller")) : null;
+        size = Math.max(1, tag.getInt("Size"));
+        counts.clear();
+        targets = null;
+        for (Tag element : tag.getList("Contents", Tag.TAG_COMPOUND)) {
+            CompoundTag item = (CompoundTag) element;
+            ResourceLocation id = ResourceLocation.tryParse(item.getString("Id"));
+            Item type = id == null ? null : ForgeRegistries.ITEMS.getValue(id);
+            if (type != null && type != Items.AIR && item.getLong("Count") > 0)
+                counts.addTo(type, item.getLong("Count"));
+        }
+    }
+
+    @Override
+    public <T> @NotNull LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+        if (cap == ForgeCapabilities.ITEM_HANDLER)
+            return itemCapability.cast();
+        return super.getCapability(cap, side);
+    }
+
+    @Override
+    public void invalidateCaps() {
+        super.invalidateCaps();
+        itemCapability.invalidate();
+    }
+
+    // Insert-only: powder leaves the network through its basins
+    private record ChuteItemHandler(PowderChuteBlockEntity chute) implements IItemHandler {
+        @Override
+        public int getSlots() {
+            return 1;
+        }
+
+        @Override
+        public @NotNull ItemStack getStackInSlot(int slot) {
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public @NotNull ItemStack insertItem(int slot, @NotNull ItemStack stack, boolean simulate) {
+            return chute.getController().insert(stack, simulate);
+        }
+
+        @Override
+        public @NotNull ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return 64;
+        }
+
+        @Override
+        public boolean isItemValid(int slot, @NotNull ItemStack stack) {
+            return isPowder(stack);
+        }
+    }
+}
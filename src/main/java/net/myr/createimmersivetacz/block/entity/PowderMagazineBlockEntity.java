@@ -0,0 +1,359 @@
+package net.myr.createimmersivetacz.block.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidType;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.myr.createimmersivetacz.block.BlockNetworks;
+import net.myr.createimmersivetacz.block.ConnectedBlocks;
+import net.myr.createimmersivetacz.block.ModBlocks;
+import net.myr.createimmersivetacz.fluid.BaseFluidType;
+import net.myr.createimmersivetacz.fluid.DetonationScheduler;
+import net.myr.createimmersivetacz.fluid.ModFluidTypes;
+import net.myr.createimmersivetacz.fluid.ModFluids;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One block of a powder magazine. Connected magazine blocks form a single store whose contents live on the controller
+ * as one {@code long} per powder fluid, so the whole structure can hold millions of mB without any per-block tanks.
+ * Every block exposes the same aggregated fluid handler, which forwards to the controller.
+ */
+public class PowderMagazineBlockEntity extends BlockEntity {
+    public static final long CAPACITY_PER_BLOCK = 1_000_000;
+    public static final int MAX_SIZE = 4096;
+
+    // Clients only see the fill level in steps of 1/32, so the contents are synced only when that step changes
+    private static final int SYNC_LEVELS = 32;
+
+    private static final int GUNPOWDER = 0;
+    private static final int NITROPOWDER = 1;
+    private static final int POWDERS = 2;
+
+    @Nullable
+    private BlockPos controller;
+
+    // Only meaningful on the controller
+    private final long[] amounts = new long[POWDERS];
+    private int size = 1;
+    private int syncedLevel;
+
+    private final LazyOptional<IFluidHandler> fluidCapability = LazyOptional.of(() -> new MagazineFluidHandler(this));
+
+    public PowderMagazineBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.POWDER_MAGAZINE.get(), pos, state);
+    }
+
+    /**
+     * Rebuilds the magazine containing {@code start}, merging the contents of every magazine it now connects.
+     */
+    public static void reform(Level level, BlockPos start) {
+        List<BlockPos> members = collect(level, start);
+        long[] amounts = new long[POWDERS];
+        Set<BlockPos> counted = new HashSet<>();
+        for (BlockPos pos : members) {
+            if (!(level.getBlockEntity(pos) instanceof PowderMagazineBlockEntity magazine))
+                continue;
+            PowderMagazineBlockEntity controller = magazine.getController();
+            if (counted.add(controller.worldPosition))
+                controller.addAmountsTo(amounts);
+            // Normally empty, but anything a member holds itself would otherwise be zeroed by form
+            if (counted.add(pos))
+                magazine.addAmountsTo(amounts);
+        }
+        form(level, members, amounts);
+    }
+
+    /**
+     * Called just before this block is removed. Whatever is left connected splits the contents in proportion to its
+     * size, and the share of the removed block is lost with it.
+     */
+    public void onBroken() {
+        if (level == null)
+            return;
+        PowderMagazineBlockEntity controller = getController();
+        long[] total = controller.amounts.clone();
+        if (controller != this)
+            addAmountsTo(total);
+        int totalSize = Math.max(1, controller.size);
+
+        List<List<BlockPos>> groups = BlockNetworks.collectSplit(level, worldPosition, PowderMagazineBlockEntity::isMagazine, MAX_SIZE);
+        long[][] shares = new long[POWDERS][];
+        for (int i = 0; i < POWDERS; i++)
+            shares[i] = BlockNetworks.split(total[i], totalSize, groups);
+
+        for (int g = 0; g < groups.size(); g++) {
+            List<BlockPos> members = groups.get(g);
+            long[] share = new long[POWDERS];
+            for (int i = 0; i < POWDERS; i++)
+                share[i] = shares[i][g];
+            for (BlockPos pos : members) {
+                if (!pos.equals(controller.worldPosition) && level.getBlockEntity(pos) instanceof PowderMagazineBlockEntity member)
+                    member.addAmountsTo(share);
+            }
+            form(level, members, share);
+        }
+    }
+
+    /**
+     * Sets off everything the magazine holds as one blast at this block.
+     */
+    public void ignite() {
+        if (level == null)
+            return;
+        PowderMagazineBlockEntity controller = getController();
+        double buckets = 0;
+        double strength = 0;
+        for (int i = 0; i < POWDERS; i++) {
+            double amount = controller.amounts[i] / 1000.0;
+            buckets += amount;
+            if (fluidAt(i).getFluidType() instanceof BaseFluidType type)
+                strength += type.getBlastStrength() * amount;
+            controller.amounts[i] = 0;
+        }
+        if (buckets <= 0)
+            return;
+        controller.onContentsChanged();
+        DetonationScheduler.ignite(level, worldPosition, (float) (strength / buckets), buckets);
+    }
+
+    private static boolean isMagazine(BlockState state) {
+        return state.is(ModBlocks.POWDER_MAGAZINE.get());
+    }
+
+    private static List<BlockPos> collect(Level level, BlockPos start) {
+        return ConnectedBlocks.collect(level, start, PowderMagazineBlockEntity::isMagazine, MAX_SIZE);
+    }
+
+    private static void form(Level level, List<BlockPos> members, long[] amounts) {
+        if (members.isEmpty())
+            return;
+        BlockPos controllerPos = BlockNetworks.pickController(members);
+
+        for (BlockPos pos : members) {
+            if (!(level.getBlockEntity(pos) instanceof PowderMagazineBlockEntity magazine))
+                continue;
+            magazine.controller = controllerPos;
+            magazine.size = members.size();
+            for (int i = 0; i < POWDERS; i++)
+                magazine.amounts[i] = pos.equals(controllerPos) ? amounts[i] : 0;
+            magazine.setChanged();
+        }
+
+        if (level.getBlockEntity(controllerPos) instanceof PowderMagazineBlockEntity controller) {
+            long capacity = controller.getCapacity();
+            long total = controller.getTotal();
+            // A magazine that shrank keeps what fits
+            if (total > capacity) {
+                for (int i = 0; i < POWDERS; i++)
+                    controller.amounts[i] = controller.amounts[i] * capacity / total;
+            }
+            controller.syncedLevel = -1;
+            controller.onContentsChanged();
+        }
+    }
+
+    public PowderMagazineBlockEntity getController() {
+        if (controller == null || controller.equals(worldPosition) || level == null)
+            return this;
+        return level.getBlockEntity(controller) instanceof PowderMagazineBlockEntity magazine ? magazine : this;
+    }
+
+    /**
+     * @return the controller, or null while its chunk is not loaded; contents must not be moved in or out through this
+     * block then, since only the controller's amounts survive the next re-form
+     */
+    @Nullable
+    private PowderMagazineBlockEntity getLoadedController() {
+        if (controller == null || controller.equals(worldPosition) || level == null)
+            return this;
+        if (!level.isLoaded(controller))
+            return null;
+        return level.getBlockEntity(controller) instanceof PowderMagazineBlockEntity magazine ? magazine : this;
+    }
+
+    private void addAmountsTo(long[] total) {
+        for (int i = 0; i < POWDERS; i++)
+            total[i] += amounts[i];
+    }
+
+    public long getCapacity() {
+        return size * CAPACITY_PER_BLOCK;
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (long amount : amounts)
+            total += amount;
+        return total;
+    }
+
+    public long getAmount(Fluid fluid) {
+        int index = indexOf(fluid.getFluidType());
+        return index < 0 ? 0 : getController().amounts[index];
+    }
+
+    public int getComparatorOutput() {
+        PowderMagazineBlockEntity controller = getController();
+        return controller.getTotal() == 0 ? 0 : 1 + (int) (controller.getTotal() * 14 / controller.getCapacity());
+    }
+
+    private int getFillLevel() {
+        return (int) (getTotal() * SYNC_LEVELS / getCapacity());
+    }
+
+    private void onContentsChanged() {
+        setChanged();
+        int fillLevel = getFillLevel();
+        if (fillLevel == syncedLevel || level == null)
+            return;
+        syncedLevel = fillLevel;
+        level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), Block.UPDATE_CLIENTS);
+    }
+
+    private static int indexOf(FluidType type) {
+        if (type == ModFluidTypes.GUNPOWDER_FLUID_TYPE.get())
+            return GUNPOWDER;
+        if (type == ModFluidTypes.NITROPOWDER_FLUID_TYPE.get())
+            return NITROPOWDER;
+        return -1;
+    }
+
+    private static Fluid fluidAt(int index) {
+        return index == GUNPOWDER ? ModFluids.SOURCE_GUNPOWDER.get() : ModFluids.SOURCE_NITROPOWDER.get();
+    }
+
+    private int fill(FluidStack resource, IFluidHandler.FluidAction action) {
+        int index = resource.hasTag() ? -1 : indexOf(resource.getFluid().getFluidType());
+        if (index < 0)
+            return 0;
+        int filled = (int) Math.min(resource.getAmount(), getCapacity() - getTotal());
+        if (filled > 0 && action.execute()) {
+            amounts[index] += filled;
+            onContentsChanged();
+        }
+        return Math.max(filled, 0);
+    }
+
+    private FluidStack drain(int index, int maxDrain, IFluidHandler.FluidAction action) {
+        int drained = (int) Math.min(maxDrain, amounts[index]);
+        if (drained <= 0)
+            return FluidStack.EMPTY;
+        if (action.execute()) {
+            amounts[index] -= drained;
+            onContentsChanged();
+        }
+        return new FluidStack(fluidAt(index), drained);
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag) {
+        super.saveAdditional(tag);
+        if (controller != null)
+            tag.putLong("Controller", controller.asLong());
+        tag.putInt("Size", size);
+        tag.putLongArray("Amounts", amounts);
+    }
+
+    @Override
+    public void load(CompoundTag tag) {
+        super.load(tag);
+        controller = tag.contains("Controller") ? BlockPos.of(tag.getLong("Controller")) : null;
+        size = Math.max(1, tag.getInt("Size"));
+        long[] saved = tag.getLongArray("Amounts");
+        for (int i = 0; i < POWDERS; i++)
+            amounts[i] = i < saved.length ? saved[i] : 0;
+        syncedLevel = getFillLevel();
+    }
+
+    @Override
+    public CompoundTag getUpdateTag() {
+        return saveWithoutMetadata();
+    }
+
+    @Override
+    public @Nullable Packet<ClientGamePacketListener> getUpdatePacket() {
+        return ClientboundBlockEntityDataPacket.create(this);
+    }
+
+    @Override
+    public <T> @NotNull LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+        if (cap == ForgeCapabilities.FLUID_HANDLER)
+            return fluidCapability.cast();
+        return super.getCapability(cap, side);
+    }
+
+    @Override
+    public void invalidateCaps() {
+        super.invalidateCaps();
+        fluidCapability.invalidate();
+    }
+
+    // Amounts beyond what an int holds are reported capped; the real counts stay on the controller
+    private record MagazineFluidHandler(PowderMagazineBlockEntity magazine) implements IFluidHandler {
+        @Override
+        public int getTanks() {
+            return POWDERS;
+        }
+
+        @Override
+        public @NotNull FluidStack getFluidInTank(int tank) {
+            PowderMagazineBlockEntity controller = magazine.getLoadedController();
+            long amount = controller == null ? 0 : controller.amounts[tank];
+            return amount == 0 ? FluidStack.EMPTY : new FluidStack(fluidAt(tank), (int) Math.min(amount, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public int getTankCapacity(int tank) {
+            PowderMagazineBlockEntity controller = magazine.getLoadedController();
+            return controller == null ? 0 : (int) Math.min(controller.getCapacity(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean isFluidValid(int tank, @NotNull FluidStack stack) {
+            return indexOf(stack.getFluid().getFluidType()) == tank;
+        }
+
+        @Override
+        public int fill(FluidStack resource, FluidAction action) {
+            PowderMagazineBlockEntity controller = magazine.getLoadedController();
+            return controller == null ? 0 : controller.fill(resource, action);
+        }
+
+        @Override
+        public @NotNull FluidStack drain(FluidStack resource, FluidAction action) {
+            int index = indexOf(resource.getFluid().getFluidType());
+            PowderMagazineBlockEntity controller = magazine.getLoadedController();
+            return index < 0 || controller == null ? FluidStack.EMPTY : controller.drain(index, resource.getAmount(), action);
+        }
+
+        @Override
+        public @NotNull FluidStack drain(int maxDrain, FluidAction action) {
+            PowderMagazineBlockEntity controller = magazine.getLoadedController();
+            if (controller == null)
+                return FluidStack.EMPTY;
+            for (int i = 0; i < POWDERS; i++) {
+                if (controller.amounts[i] > 0)
+                    return controller.drain(i, maxDrain, action);
+            }
+            return FluidStack.EMPTY;
+        }
+    }
+}
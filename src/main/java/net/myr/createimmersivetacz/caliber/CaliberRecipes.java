@@ -0,0 +1,151 @@
+package net.myr.createimmersivetacz.caliber;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.item.ModItems;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssemblyRecipe;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns the loaded calibers into their cutting, sequenced assembly and batched assembly recipes. The recipes are built as
+ * the same JSON a datapack would ship and parsed by their own serializers, so a datapack can still override any of them
+ * by id.
+ */
+public class CaliberRecipes {
+    static final String CUTTING = "";
+    static final String FILL = "_fill";
+    static final String BATCHED = "_batched";
+    static final List<String> SUFFIXES = List.of(CUTTING, FILL, BATCHED);
+
+    // Every recipe id the datapacks ship a file for, including files their conditions disabled
+    private static Set<ResourceLocation> datapackIds = Set.of();
+
+    /**
+     * Called as the recipe manager starts applying, with the ids of all recipe files before conditions are checked.
+     */
+    public static void setDatapackIds(Set<ResourceLocation> ids) {
+        datapackIds = Set.copyOf(ids);
+    }
+
+    public static void inject(RecipeManager recipeManager, Map<Item, CaliberSpec> specs) {
+        List<Recipe<?>> recipes = new ArrayList<>(recipeManager.getRecipes());
+        int existing = recipes.size();
+        Map<Item, BatchedAmmoAssemblyRecipe> batchedRecipes = new IdentityHashMap<>();
+
+        for (CaliberSpec spec : specs.values()) {
+            try {
+                add(recipeManager, recipes, spec.getRecipeId(CUTTING), cutting(spec));
+                add(recipeManager, recipes, spec.getRecipeId(FILL), sequencedFill(spec));
+                if (add(recipeManager, recipes, spec.getRecipeId(BATCHED), batchedFill(spec)) instanceof BatchedAmmoAssemblyRecipe batched)
+                    batchedRecipes.put(spec.casing(), batched);
+            } catch (RuntimeException e) {
+                CreateImmersiveTacz.LOGGER.error("Couldn't generate recipes for caliber {}", spec.id(), e);
+            }
+        }
+
+        if (recipes.size() > existing)
+            recipeManager.replaceRecipes(recipes);
+        datapackIds = Set.of();
+        CaliberRegistry.publish(new CaliberRegistry(specs, batchedRecipes));
+        CreateImmersiveTacz.LOGGER.debug("Loaded {} calibers, generated {} recipes", specs.size(), recipes.size() - existing);
+    }
+
+    @Nullable
+    private static Recipe<?> add(RecipeManager recipeManager, List<Recipe<?>> recipes, ResourceLocation id, JsonObject json) {
+        // A datapack recipe with the same id wins over the generated one, and a file whose conditions disabled it removes it
+        if (datapackIds.contains(id) || recipeManager.byKey(id).isPresent())
+            return recipeManager.byKey(id).orElse(null);
+        Recipe<?> recipe = RecipeManager.fromJson(id, json);
+        recipes.add(recipe);
+        return recipe;
+    }
+
+    private static JsonObject cutting(CaliberSpec spec) {
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "create:cutting");
+        json.add("ingredients", array(spec.cutFrom().toJson()));
+        json.addProperty("processingTime", spec.cutTime());
+        JsonObject result = item(spec.casing());
+        result.addProperty("count", spec.cutYield());
+        json.add("results", array(result));
+        return json;
+    }
+
+    private static JsonObject sequencedFill(CaliberSpec spec) {
+        JsonArray sequence = new JsonArray();
+        for (int i = 0; i < spec.primerCount(); i++) {
+            JsonObject deploying = new JsonObject();
+            deploying.addProperty("type", "create:deploying");
+            deploying.add("ingredients", array(item(spec.casing()), item(ModItems.PRIMER.get())));
+            deploying.add("results", array(item(spec.casing())));
+            sequence.add(deploying);
+        }
+        JsonObject filling = new JsonObject();
+        filling.addProperty("type", "create:filling");
+        filling.add("ingredients", array(item(spec.casing()), powder(spec)));
+        filling.add("results", array(item(spec.casing())));
+        sequence.add(filling);
+
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "create:sequenced_assembly");
+        json.add("ingredient", item(spec.casing()));
+        json.addProperty("loops", 1);
+        json.add("results", array(ammo(spec)));
+        json.add("sequence", sequence);
+        json.add("transitionalItem", item(spec.casing()));
+        return json;
+    }
+
+    private static JsonObject batchedFill(CaliberSpec spec) {
+        JsonObject json = new JsonObject();
+        json.addProperty("type", CreateImmersiveTacz.MOD_ID + ":" + BatchedAmmoAssemblyRecipe.Type.ID);
+        json.add("casing", item(spec.casing()));
+        json.add("primer", item(ModItems.PRIMER.get()));
+        json.addProperty("primerCount", spec.primerCount());
+        json.add("powder", powder(spec));
+        json.add("result", ammo(spec));
+        return json;
+    }
+
+    private static JsonObject item(Item item) {
+        JsonObject json = new JsonObject();
+        json.addProperty("item", ForgeRegistries.ITEMS.getKey(item).toString());
+        return json;
+    }
+
+    private static JsonObject powder(CaliberSpec spec) {
+        JsonObject json = new JsonObject();
+        json.addProperty("fluid", ForgeRegistries.FLUIDS.getKey(spec.powder()).toString());
+        json.addProperty("amount", spec.powderAmount());
+        return json;
+    }
+
+    private static JsonObject ammo(CaliberSpec spec) {
+        JsonObject json = new JsonObject();
+        json.addProperty("item", ResultTemplates.AMMO_ITEM.toString());
+        json.addProperty("count", 1);
+        json.addProperty("nbt", "{" + ResultTemplates.AMMO_ID + ":\"" + spec.ammoId() + "\"}");
+        return json;
+    }
+
+    private static JsonArray array(JsonElement... elements) {
+        JsonArray array = new JsonArray();
+        for (JsonElement element : elements)
+            array.add(element);
+        return array;
+    }
+}
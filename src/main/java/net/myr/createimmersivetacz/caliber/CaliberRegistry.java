@@ -0,0 +1,66 @@
+package net.myr.createimmersivetacz.caliber;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssemblyRecipe;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Immutable casing-to-caliber lookup, rebuilt on every datapack reload and swapped in as a whole.
+ */
+public class CaliberRegistry {
+    public static final CaliberRegistry EMPTY = new CaliberRegistry(Map.of(), Map.of());
+
+    private static volatile CaliberRegistry current = EMPTY;
+
+    private final Map<Item, CaliberSpec> specs;
+    private final Map<Item, BatchedAmmoAssemblyRecipe> batchedRecipes;
+    private final Map<ResourceLocation, ResourceLocation> recipeCalibers;
+
+    public CaliberRegistry(Map<Item, CaliberSpec> specs, Map<Item, BatchedAmmoAssemblyRecipe> batchedRecipes) {
+        this.specs = Collections.unmodifiableMap(new IdentityHashMap<>(specs));
+        this.batchedRecipes = Collections.unmodifiableMap(new IdentityHashMap<>(batchedRecipes));
+        Map<ResourceLocation, ResourceLocation> recipeCalibers = new HashMap<>();
+        for (CaliberSpec spec : specs.values()) {
+            for (String suffix : CaliberRecipes.SUFFIXES)
+                recipeCalibers.put(spec.getRecipeId(suffix), spec.id());
+        }
+        this.recipeCalibers = Map.copyOf(recipeCalibers);
+    }
+
+    public static CaliberRegistry get() {
+        return current;
+    }
+
+    static void publish(CaliberRegistry registry) {
+        current = registry;
+    }
+
+    @Nullable
+    public CaliberSpec getSpec(Item casing) {
+        return specs.get(casing);
+    }
+
+    @Nullable
+    public BatchedAmmoAssemblyRecipe getBatchedRecipe(Item casing) {
+        return batchedRecipes.get(casing);
+    }
+
+    /**
+     * @return the caliber a recipe was generated for, also when a datapack overrides that recipe by id
+     */
+    @Nullable
+    public ResourceLocation getRecipeCaliber(ResourceLocation recipeId) {
+        return recipeCalibers.get(recipeId);
+    }
+
+    public Collection<CaliberSpec> getSpecs() {
+        return specs.values();
+    }
+}
@@ -0,0 +1,45 @@
+package net.myr.createimmersivetacz.caliber;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.Item;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class CaliberReloadListener extends SimpleJsonResourceReloadListener {
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private Map<Item, CaliberSpec> specs = Map.of();
+
+    public CaliberReloadListener() {
+        super(GSON, "calibers");
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> jsons, ResourceManager resourceManager, ProfilerFiller profiler) {
+        Map<Item, CaliberSpec> loaded = new IdentityHashMap<>();
+        jsons.forEach((id, json) -> {
+            try {
+                CaliberSpec spec = CaliberSpec.fromJson(id, GsonHelper.convertToJsonObject(json, "caliber"));
+                CaliberSpec previous = loaded.put(spec.casing(), spec);
+                if (previous != null)
+                    CreateImmersiveTacz.LOGGER.warn("Caliber {} replaces {} for the same casing", id, previous.id());
+            } catch (RuntimeException e) {
+                CreateImmersiveTacz.LOGGER.error("Couldn't load caliber {}", id, e);
+            }
+        });
+        specs = loaded;
+    }
+
+    public Map<Item, CaliberSpec> getSpecs() {
+        return specs;
+    }
+}
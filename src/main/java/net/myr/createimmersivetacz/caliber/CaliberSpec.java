@@ -0,0 +1,50 @@
+package net.myr.createimmersivetacz.caliber;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * Everything needed to cut, prime and fill one caliber, loaded from {@code data/<namespace>/calibers/<name>.json}.
+ */
+public record CaliberSpec(ResourceLocation id, Item casing, ResourceLocation ammoId, Fluid powder, int powderAmount,
+                          int primerCount, Ingredient cutFrom, int cutYield, int cutTime) {
+
+    public static CaliberSpec fromJson(ResourceLocation id, JsonObject json) {
+        Item casing = ForgeRegistries.ITEMS.getValue(new ResourceLocation(GsonHelper.getAsString(json, "casing")));
+        if (casing == null || casing == Items.AIR)
+            throw new JsonSyntaxException("Unknown casing item '" + GsonHelper.getAsString(json, "casing") + "'");
+        ResourceLocation ammoId = new ResourceLocation(GsonHelper.getAsString(json, "ammoId"));
+
+        JsonObject powderJson = GsonHelper.getAsJsonObject(json, "powder");
+        Fluid powder = ForgeRegistries.FLUIDS.getValue(new ResourceLocation(GsonHelper.getAsString(powderJson, "fluid")));
+        if (powder == null || powder == Fluids.EMPTY)
+            throw new JsonSyntaxException("Unknown powder fluid '" + GsonHelper.getAsString(powderJson, "fluid") + "'");
+        int powderAmount = GsonHelper.getAsInt(powderJson, "amount");
+        int primerCount = GsonHelper.getAsInt(json, "primerCount", 1);
+
+        JsonObject cutting = GsonHelper.getAsJsonObject(json, "cutting");
+        Ingredient cutFrom = Ingredient.fromJson(GsonHelper.getAsJsonObject(cutting, "ingredient"));
+        int cutYield = GsonHelper.getAsInt(cutting, "yield");
+        int cutTime = GsonHelper.getAsInt(cutting, "processingTime", 200);
+
+        if (powderAmount <= 0 || primerCount <= 0 || cutYield <= 0 || cutTime <= 0)
+            throw new JsonSyntaxException("Caliber amounts must be positive");
+        return new CaliberSpec(id, casing, ammoId, powder, powderAmount, primerCount, cutFrom, cutYield, cutTime);
+    }
+
+    /**
+     * Generated recipes keep the ids the hand-written caliber recipes had, {@code ammo/<name>} plus a suffix, so datapacks
+     * and scripts that override or remove them still do.
+     */
+    public ResourceLocation getRecipeId(String suffix) {
+        return new ResourceLocation(id.getNamespace(), "ammo/" + id.getPath() + suffix);
+    }
+}
@@ -0,0 +1,94 @@
+package net.myr.createimmersivetacz.command;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.SharedConstants;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import net.myr.createimmersivetacz.stats.RecipeParseStats;
+import net.myr.createimmersivetacz.stats.TickProfiler;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The {@code /cit} admin command.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class CitCommand {
+    private static final int MAX_LINES = 20;
+    private static final int MAX_PROFILE_SECONDS = 300;
+
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        event.getDispatcher().register(Commands.literal("cit")
+                .requires(source -> source.hasPermission(2))
+                .then(stats())
+                .then(profile())
+                .then(recipes()));
+    }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> stats() {
+        return Commands.literal("stats")
+                .executes(context -> showStats(context.getSource(), null))
+                .then(Commands.literal("reset").executes(context -> {
+                    ProductionStats.reset();
+                    context.getSource().sendSuccess(() -> Component.literal("Production counters reset"), true);
+                    return 1;
+                }))
+                .then(Commands.argument("filter", StringArgumentType.greedyString())
+                        .executes(context -> showStats(context.getSource(), StringArgumentType.getString(context, "filter"))));
+    }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> profile() {
+        return Commands.literal("profile")
+                .then(Commands.argument("seconds", IntegerArgumentType.integer(1, MAX_PROFILE_SECONDS)).executes(context -> {
+                    int seconds = IntegerArgumentType.getInteger(context, "seconds");
+                    if (!TickProfiler.start(context.getSource(), seconds * SharedConstants.TICKS_PER_SECOND)) {
+                        context.getSource().sendFailure(Component.literal("A profile is already running"));
+                        return 0;
+                    }
+                    context.getSource().sendSuccess(() -> Component.literal("Profiling the mod's machines for " + seconds + "s"), true);
+                    return 1;
+                }));
+    }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> recipes() {
+        return Commands.literal("recipes").executes(context -> {
+            CommandSourceStack source = context.getSource();
+            RecipeParseStats.Report report = RecipeParseStats.getLastReport();
+            source.sendSuccess(() -> Component.literal(String.format("Last reload parsed %,d recipes in %,d ms; %,d from this mod or making TaCZ items took %,d ms (%,d failed)",
+                    report.recipes(), report.nanos() / 1_000_000, report.tracked(), report.trackedNanos() / 1_000_000, report.failures())), false);
+            for (RecipeParseStats.Sample sample : report.slowest()) {
+                source.sendSuccess(() -> Component.literal(String.format("%,d us  %s  (%,d bytes)%s",
+                        sample.nanos() / 1000, sample.id(), sample.bytes(), sample.failed() ? "  failed" : "")), false);
+            }
+            return report.recipes();
+        });
+    }
+
+    private static int showStats(CommandSourceStack source, @Nullable String filter) {
+        List<ProductionStats.Entry> entries = ProductionStats.snapshot(filter);
+        if (entries.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("Nothing produced yet"), false);
+            return 0;
+        }
+        for (ProductionStats.Entry entry : entries.subList(0, Math.min(MAX_LINES, entries.size()))) {
+            ProductionStats.Key key = entry.key();
+            source.sendSuccess(() -> Component.literal(String.format("%,d x %s  (%s in %s)",
+                    entry.count(), key.output(), key.recipe(), key.dimension())), false);
+        }
+        if (entries.size() > MAX_LINES) {
+            int hidden = entries.size() - MAX_LINES;
+            source.sendSuccess(() -> Component.literal("... and " + hidden + " more"), false);
+        }
+        return entries.size();
+    }
+}
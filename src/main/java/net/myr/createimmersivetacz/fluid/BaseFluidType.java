@@ -17,16 +17,19 @@ import java.util.function.Consumer;
 public class BaseFluidType extends FluidType {
     private final ResourceLocation stillTexture;
     private final ResourceLocation flowingTexture;
-    private final int tintColor;
-    private final Vector3f fogColor;
+    private final FluidVisualProfile defaultVisualProfile;
+    private final float blastStrength;
+    // Replaced by FluidVisualProfileLoader on every resource reload
+    private FluidVisualProfile visualProfile;
 
     public BaseFluidType(final ResourceLocation stillTexture, final ResourceLocation flowingTexture,
-                         final int tintColor, final Vector3f fogColor, final Properties properties) {
+                         final int tintColor, final Vector3f fogColor, final float blastStrength, final Properties properties) {
         super(properties);
         this.stillTexture = stillTexture;
         this.flowingTexture = flowingTexture;
-        this.tintColor = tintColor;
-        this.fogColor = fogColor;
+        this.defaultVisualProfile = new FluidVisualProfile(tintColor, fogColor, 1f, 6f, "solid");
+        this.visualProfile = defaultVisualProfile;
+        this.blastStrength = blastStrength;
     }
 
     public ResourceLocation getStillTexture() {
@@ -38,11 +41,28 @@ public class BaseFluidType extends FluidType {
     }
 
     public int getTintColor() {
-        return tintColor;
+        return visualProfile.tintColor();
     }
 
     public Vector3f getFogColor() {
-        return fogColor;
+        return visualProfile.fogColor();
+    }
+
+    public FluidVisualProfile getVisualProfile() {
+        return visualProfile;
+    }
+
+    public FluidVisualProfile getDefaultVisualProfile() {
+        return defaultVisualProfile;
+    }
+
+    public void setVisualProfile(FluidVisualProfile visualProfile) {
+        this.visualProfile = visualProfile;
+    }
+
+    // Explosion power of a single bucket when the fluid is ignited, 0 for inert fluids
+    public float getBlastStrength() {
+        return blastStrength;
     }
 
     @Override
@@ -60,21 +80,22 @@ public class BaseFluidType extends FluidType {
 
             @Override
             public int getTintColor() {
-                return tintColor;
+                return visualProfile.tintColor();
             }
 
             @Override
             public @NotNull Vector3f modifyFogColor(Camera camera, float partialTick, ClientLevel level,
                                                     int renderDistance, float darkenWorldAmount, Vector3f fluidFogColor) {
-                return fogColor;
+                return visualProfile.fogColor();
             }
 
             @Override
             public void modifyFogRender(Camera camera, FogRenderer.FogMode mode, float renderDistance, float partialTick,
                                         float nearDistance, float farDistance, FogShape shape) {
-                RenderSystem.setShaderFogStart(1f);
-                RenderSystem.setShaderFogEnd(6f); // distance when the fog starts
+                FluidVisualProfile profile = visualProfile;
+                RenderSystem.setShaderFogStart(profile.fogStart());
+                RenderSystem.setShaderFogEnd(profile.fogEnd());
             }
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package net.myr.createimmersivetacz.fluid;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.block.custom.PackedPowderBlock;
+import net.myr.createimmersivetacz.stats.TickTimer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Turns ignited powder into explosions without letting a large spill blow up all at once. Ignitions are bucketed into
+ * 4x4x4 cells; every cell becomes one explosion at the weighted centre of its powder, growing with the cube root of
+ * the amount. Only {@code maxDetonationsPerTick} cells go off per tick, and powder next to a detonated cell is queued
+ * for a later tick, so chain reactions spread as a front instead of in a single tick.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class DetonationScheduler {
+    private static final int CELL_SHIFT = 2;
+    private static final float MAX_POWER = 12f;
+
+    private static final Map<Level, LevelQueue> QUEUES = new IdentityHashMap<>();
+
+    private static class LevelQueue {
+        private final Long2ObjectLinkedOpenHashMap<Cell> cells = new Long2ObjectLinkedOpenHashMap<>();
+        private final LongOpenHashSet queued = new LongOpenHashSet();
+    }
+
+    private static class Cell {
+        private double x, y, z;
+        private double weight;
+        private double strength;
+        private final LongArrayList positions = new LongArrayList();
+        private final LongArrayList powder = new LongArrayList();
+
+        private float getPower() {
+            return (float) Math.min(MAX_POWER, strength / weight * Math.cbrt(weight));
+        }
+    }
+
+    public static boolean isIgnitionSource(BlockState state) {
+        return state.is(BlockTags.FIRE) || state.getFluidState().is(FluidTags.LAVA);
+    }
+
+    public static boolean isIgnited(Level level, BlockPos pos) {
+        for (Direction direction : Direction.values()) {
+            if (isIgnitionSource(level.getBlockState(pos.relative(direction))))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean isPlacedPowder(BlockState state) {
+        return state.getFluidState().getType() instanceof PowderFluid || state.getBlock() instanceof PackedPowderBlock;
+    }
+
+    public static float getBlastStrength(FluidState state) {
+        return state.getFluidType() instanceof BaseFluidType type ? type.getBlastStrength() : 0;
+    }
+
+    /**
+     * Queues the placed powder at {@code pos}; the block itself is consumed when its cell detonates.
+     */
+    public static void ignitePowder(Level level, BlockPos pos, FluidState state) {
+        float strength = getBlastStrength(state);
+        Cell cell = strength > 0 ? queue(level, pos, strength, state.getAmount() / 8.0) : null;
+        if (cell != null)
+            cell.powder.add(pos.asLong());
+    }
+
+    /**
+     * Queues a blast that does not consume any placed powder, e.g. a tank going up.
+     *
+     * @param weight how many buckets of powder the blast stands for
+     */
+    public static void ignite(Level level, BlockPos pos, float strength, double weight) {
+        if (strength > 0 && weight > 0)
+            queue(level, pos, strength, weight);
+    }
+
+    @Nullable
+    private static Cell queue(Level level, BlockPos pos, float strength, double weight) {
+        LevelQueue queue = QUEUES.computeIfAbsent(level, l -> new LevelQueue());
+        if (!queue.queued.add(pos.asLong()))
+            return null;
+        Cell cell = queue.cells.computeIfAbsent(cellKey(pos), key -> new Cell());
+        cell.positions.add(pos.asLong());
+        cell.x += (pos.getX() + 0.5) * weight;
+        cell.y += (pos.getY() + 0.5) * weight;
+        cell.z += (pos.getZ() + 0.5) * weight;
+        cell.weight += weight;
+        cell.strength += strength * weight;
+        return cell;
+    }
+
+    private static long cellKey(BlockPos pos) {
+        return BlockPos.asLong(pos.getX() >> CELL_SHIFT, pos.getY() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.level.isClientSide)
+            return;
+        LevelQueue queue = QUEUES.get(event.level);
+        if (queue == null || queue.cells.isEmpty())
+            return;
+
+        Level level = event.level;
+        int maxDetonations = Config.get().maxDetonationsPerTick();
+        for (int i = 0; i < maxDetonations && !queue.cells.isEmpty(); i++) {
+            Cell cell = queue.cells.removeFirst();
+            long start = TickTimer.begin();
+            for (long packed : cell.positions)
+                queue.queued.remove(packed);
+            for (long packed : cell.powder) {
+                BlockPos pos = BlockPos.of(packed);
+                if (isPlacedPowder(level.getBlockState(pos)))
+                    level.setBlock(pos, Blocks.AIR.defaultBlockState(), 3);
+            }
+            level.explode(null, cell.x / cell.weight, cell.y / cell.weight, cell.z / cell.weight, cell.getPower(),
+                    Level.ExplosionInteraction.TNT);
+
+            for (long packed : cell.powder) {
+                BlockPos pos = BlockPos.of(packed);
+                for (Direction direction : Direction.values()) {
+                    BlockPos neighbour = pos.relative(direction);
+                    BlockState state = level.getBlockState(neighbour);
+                    if (state.getFluidState().getType() instanceof PowderFluid)
+                        ignitePowder(level, neighbour, state.getFluidState());
+                    else if (state.getBlock() instanceof PackedPowderBlock packedPowder)
+                        ignitePowder(level, neighbour, packedPowder.getFluid().getSource(false));
+                }
+            }
+            TickTimer.end(start, "powder_detonation", level,
+                    BlockPos.containing(cell.x / cell.weight, cell.y / cell.weight, cell.z / cell.weight));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level)
+            QUEUES.remove(level);
+    }
+}
@@ -0,0 +1,43 @@
+package net.myr.createimmersivetacz.fluid;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import net.minecraft.util.GsonHelper;
+import org.joml.Vector3f;
+
+import java.util.Set;
+
+/**
+ * How a fluid looks: its tint, the fog seen from inside it and the chunk render layer its blocks use. Profiles are
+ * immutable and read as-is on every frame.
+ */
+public record FluidVisualProfile(int tintColor, Vector3f fogColor, float fogStart, float fogEnd, String renderLayer) {
+    public static final Set<String> RENDER_LAYERS = Set.of("solid", "cutout", "cutout_mipped", "translucent");
+
+    /**
+     * Reads a profile from resource pack JSON. Every field is optional and falls back to {@code defaults}.
+     */
+    public static FluidVisualProfile fromJson(JsonObject json, FluidVisualProfile defaults) {
+        int tintColor = json.has("tint") ? parseColor(GsonHelper.getAsString(json, "tint")) : defaults.tintColor();
+        Vector3f fogColor = defaults.fogColor();
+        if (json.has("fog_color")) {
+            int rgb = parseColor(GsonHelper.getAsString(json, "fog_color"));
+            fogColor = new Vector3f((rgb >> 16 & 0xFF) / 255f, (rgb >> 8 & 0xFF) / 255f, (rgb & 0xFF) / 255f);
+        }
+        float fogStart = GsonHelper.getAsFloat(json, "fog_start", defaults.fogStart());
+        float fogEnd = GsonHelper.getAsFloat(json, "fog_end", defaults.fogEnd());
+        String renderLayer = GsonHelper.getAsString(json, "render_layer", defaults.renderLayer());
+        if (!RENDER_LAYERS.contains(renderLayer))
+            throw new JsonSyntaxException("Unknown render layer '" + renderLayer + "', expected one of " + RENDER_LAYERS);
+        return new FluidVisualProfile(tintColor, fogColor, fogStart, fogEnd, renderLayer);
+    }
+
+    // Colours are written as hex, ARGB for the tint and RGB for the fog
+    private static int parseColor(String hex) {
+        try {
+            return (int) Long.parseLong(hex.startsWith("#") ? hex.substring(1) : hex, 16);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Invalid colour '" + hex + "'");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package net.myr.createimmersivetacz.fluid;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import net.minecraft.client.renderer.ItemBlockRenderTypes;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidType;
+import net.minecraftforge.registries.RegistryObject;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+
+import java.util.Map;
+
+/**
+ * Loads {@link FluidVisualProfile}s from {@code assets/<namespace>/fluid_visuals/<fluid type>.json} in resource packs
+ * and hands them to the mod's fluid types. Fluid types without a file keep the profile they were registered with.
+ */
+public class FluidVisualProfileLoader extends SimpleJsonResourceReloadListener {
+    private static final Gson GSON = new Gson();
+
+    public FluidVisualProfileLoader() {
+        super(GSON, "fluid_visuals");
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> jsons, ResourceManager resourceManager, ProfilerFiller profiler) {
+        for (RegistryObject<FluidType> entry : ModFluidTypes.FLUID_TYPES.getEntries()) {
+            if (!(entry.get() instanceof BaseFluidType type))
+                continue;
+            FluidVisualProfile profile = type.getDefaultVisualProfile();
+            JsonElement json = jsons.get(entry.getId());
+            if (json != null) {
+                try {
+                    profile = FluidVisualProfile.fromJson(GsonHelper.convertToJsonObject(json, "fluid visual profile"), profile);
+                } catch (RuntimeException e) {
+                    CreateImmersiveTacz.LOGGER.error("Couldn't load fluid visual profile {}", entry.getId(), e);
+                }
+            }
+            type.setVisualProfile(profile);
+        }
+        applyRenderLayers();
+    }
+
+    /**
+     * Puts every fluid of the mod on the render layer of its profile.
+     */
+    public static void applyRenderLayers() {
+        for (RegistryObject<Fluid> entry : ModFluids.FLUIDS.getEntries()) {
+            Fluid fluid = entry.get();
+            String layer = fluid.getFluidType() instanceof BaseFluidType type ? type.getVisualProfile().renderLayer() : "translucent";
+            ItemBlockRenderTypes.setRenderLayer(fluid, getRenderType(layer));
+        }
+    }
+
+    private static RenderType getRenderType(String layer) {
+        return switch (layer) {
+            case "solid" -> RenderType.solid();
+            case "cutout" -> RenderType.cutout();
+            case "cutout_mipped" -> RenderType.cutoutMipped();
+            default -> RenderType.translucent();
+        };
+    }
+}
@@ -4,6 +4,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraftforge.common.SoundAction;
 import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidType;
 import net.minecraftforge.registries.DeferredRegister;
 import net.minecraftforge.registries.ForgeRegistries;
@@ -24,20 +25,26 @@ public class ModFluidTypes {
 
     public static final RegistryObject<FluidType> GUNPOWDER_FLUID_TYPE = register("gunpowder_fluid",
             FluidType.Properties.create().lightLevel(2).density(15).viscosity(5).sound(SoundAction.get("drink"),
-                    SoundEvents.HONEY_DRINK), GUNPOWDER_STILL_RL, GUNPOWDER_FLOW_RL);
+                    SoundEvents.HONEY_DRINK), GUNPOWDER_STILL_RL, GUNPOWDER_FLOW_RL, 2f);
 
     public static final RegistryObject<FluidType> NITROPOWDER_FLUID_TYPE = register("nitropowder_fluid",
-            FluidType.Properties.create().lightLevel(2).density(15).viscosity(5), NITROPOWDER_STILL_RL, NITROPOWDER_FLOW_RL);
+            FluidType.Properties.create().lightLevel(2).density(15).viscosity(5), NITROPOWDER_STILL_RL, NITROPOWDER_FLOW_RL, 4f);
 
-    private static RegistryObject<FluidType> register(String name, FluidType.Properties properties, ResourceLocation still, ResourceLocation flow) {
+    private static RegistryObject<FluidType> register(String name, FluidType.Properties properties, ResourceLocation still,
+                                                      ResourceLocation flow, float blastStrength) {
         return FLUID_TYPES.register(name, () -> new BaseFluidType(still, flow,
-                0xFFFFFFFF, new Vector3f(225f / 255f, 225f / 255f, 225f / 255f), properties));
+                0xFFFFFFFF, new Vector3f(225f / 255f, 225f / 255f, 225f / 255f), blastStrength, properties));
     }
 
 
 
 
 
+    public static boolean isPowder(FluidStack stack) {
+        FluidType type = stack.getFluid().getFluidType();
+        return type == GUNPOWDER_FLUID_TYPE.get() || type == NITROPOWDER_FLUID_TYPE.get();
+    }
+
     public static void register(IEventBus eventBus) {
         FLUID_TYPES.register(eventBus);
     }
@@ -0,0 +1,126 @@
+package net.myr.createimmersivetacz.fluid;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.stats.TickTimer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-level bookkeeping for {@link PowderFluid}: how many powder fluid ticks already ran this server tick, which
+ * positions changed and still owe their neighbours an update, and since when each source has been left alone.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class PowderFlowScheduler {
+    private static final Map<Level, LevelState> STATES = new IdentityHashMap<>();
+
+    private static class LevelState {
+        private long gameTime = -1;
+        private int used;
+        private final LongLinkedOpenHashSet pendingUpdates = new LongLinkedOpenHashSet();
+        // Keyed by chunk, so a chunk unload drops its sources' timers in one go
+        private final Long2ObjectOpenHashMap<Long2LongOpenHashMap> undisturbedSince = new Long2ObjectOpenHashMap<>();
+
+        private Long2LongOpenHashMap undisturbedSince(BlockPos pos) {
+            return undisturbedSince.computeIfAbsent(ChunkPos.asLong(pos), chunk -> {
+                Long2LongOpenHashMap map = new Long2LongOpenHashMap();
+                map.defaultReturnValue(-1);
+                return map;
+            });
+        }
+    }
+
+    private static LevelState get(Level level) {
+        return STATES.computeIfAbsent(level, l -> new LevelState());
+    }
+
+    /**
+     * @return whether another powder fluid tick may run in this level this server tick
+     */
+    public static boolean tryConsume(Level level) {
+        LevelState state = get(level);
+        long gameTime = level.getGameTime();
+        if (state.gameTime != gameTime) {
+            state.gameTime = gameTime;
+            state.used = 0;
+        }
+        return state.used++ < Config.get().powderFlowBudget();
+    }
+
+    public static void queueNeighbourUpdate(Level level, BlockPos pos) {
+        get(level).pendingUpdates.add(pos.asLong());
+    }
+
+    public static void markDisturbed(Level level, BlockPos pos) {
+        get(level).undisturbedSince(pos).put(pos.asLong(), level.getGameTime());
+    }
+
+    /**
+     * @return how many ticks the source at {@code pos} has gone without a fluid tick, counting from the first time it is
+     * asked about if it never had one since it was loaded
+     */
+    public static long getUndisturbedTicks(Level level, BlockPos pos) {
+        long now = level.getGameTime();
+        long since = get(level).undisturbedSince(pos).putIfAbsent(pos.asLong(), now);
+        return since < 0 ? 0 : now - since;
+    }
+
+    /**
+     * Drops the timer of a source that is gone, called whenever a placed powder fluid block is removed or replaced.
+     */
+    public static void forget(Level level, BlockPos pos) {
+        LevelState state = STATES.get(level);
+        if (state == null)
+            return;
+        long chunk = ChunkPos.asLong(pos);
+        Long2LongOpenHashMap sources = state.undisturbedSince.get(chunk);
+        if (sources == null)
+            return;
+        sources.remove(pos.asLong());
+        if (sources.isEmpty())
+            state.undisturbedSince.remove(chunk);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.level.isClientSide)
+            return;
+        LevelState state = STATES.get(event.level);
+        if (state == null || state.pendingUpdates.isEmpty())
+            return;
+
+        long start = TickTimer.begin();
+        while (!state.pendingUpdates.isEmpty()) {
+            BlockPos pos = BlockPos.of(state.pendingUpdates.removeFirstLong());
+            event.level.updateNeighborsAt(pos, event.level.getBlockState(pos).getBlock());
+        }
+        TickTimer.end(start, "powder_neighbour_updates", event.level, null);
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide) {
+            LevelState state = STATES.get(level);
+            if (state != null)
+                state.undisturbedSince.remove(event.getChunk().getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level)
+            STATES.remove(level);
+    }
+}
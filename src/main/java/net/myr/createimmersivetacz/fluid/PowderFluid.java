@@ -0,0 +1,150 @@
+package net.myr.createimmersivetacz.fluid;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.LiquidBlockContainer;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.fluids.FluidType;
+import net.minecraftforge.fluids.ForgeFlowingFluid;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.block.ModBlocks;
+import net.myr.createimmersivetacz.stats.TickTimer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Placed powder that spreads like any other fluid, but under a per-level budget of fluid ticks per server tick, and
+ * without notifying its neighbours on every single change. Changes only update clients right away; the neighbour
+ * updates are collected by {@link PowderFlowScheduler} and sent once per position at the end of the tick. A block whose
+ * tick changes nothing schedules nothing, so a pool that has stopped moving stops ticking.
+ * <p>
+ * Sources that go {@code powderSettleTicks} without a fluid tick settle into a packed powder block.
+ * With {@code volatilePowder} enabled, fire or lava next to the powder hands it to the {@link DetonationScheduler}.
+ */
+public abstract class PowderFluid extends ForgeFlowingFluid {
+
+    protected PowderFluid(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    public void tick(Level level, BlockPos pos, FluidState state) {
+        long start = TickTimer.begin();
+        tickPowder(level, pos, state);
+        TickTimer.end(start, "powder_fluid", level, pos);
+    }
+
+    private void tickPowder(Level level, BlockPos pos, FluidState state) {
+        if (Config.get().volatilePowder() && DetonationScheduler.isIgnited(level, pos)) {
+            DetonationScheduler.ignitePowder(level, pos, state);
+            return;
+        }
+        if (!PowderFlowScheduler.tryConsume(level)) {
+            level.scheduleTick(pos, this, 1);
+            return;
+        }
+
+        if (state.isSource())
+            PowderFlowScheduler.markDisturbed(level, pos);
+        else {
+            FluidState newState = getNewLiquid(level, pos, level.getBlockState(pos));
+            int delay = getSpreadDelay(level, pos, state, newState);
+            if (newState.isEmpty()) {
+                state = newState;
+                level.setBlock(pos, Blocks.AIR.defaultBlockState(), Block.UPDATE_CLIENTS);
+                PowderFlowScheduler.queueNeighbourUpdate(level, pos);
+            } else if (!newState.equals(state)) {
+                state = newState;
+                level.setBlock(pos, newState.createLegacyBlock(), Block.UPDATE_CLIENTS);
+                level.scheduleTick(pos, newState.getType(), delay);
+                PowderFlowScheduler.queueNeighbourUpdate(level, pos);
+            }
+        }
+        spread(level, pos, state);
+    }
+
+    @Override
+    protected void spreadTo(LevelAccessor level, BlockPos pos, BlockState blockState, Direction direction, FluidState fluidState) {
+        if (!(level instanceof Level serverLevel) || blockState.getBlock() instanceof LiquidBlockContainer) {
+            super.spreadTo(level, pos, blockState, direction, fluidState);
+            return;
+        }
+        if (!blockState.isAir())
+            beforeDestroyingBlock(level, pos, blockState);
+        serverLevel.setBlock(pos, fluidState.createLegacyBlock(), Block.UPDATE_CLIENTS);
+        PowderFlowScheduler.queueNeighbourUpdate(serverLevel, pos);
+    }
+
+    @Nullable
+    protected Block getPackedBlock() {
+        FluidType type = getFluidType();
+        if (type == ModFluidTypes.GUNPOWDER_FLUID_TYPE.get())
+            return ModBlocks.PACKED_GUNPOWDER.get();
+        if (type == ModFluidTypes.NITROPOWDER_FLUID_TYPE.get())
+            return ModBlocks.PACKED_NITROPOWDER.get();
+        return null;
+    }
+
+    public static class Source extends PowderFluid {
+        public Source(Properties properties) {
+            super(properties);
+        }
+
+        // Sources that sat through powderSettleTicks without a fluid tick pack down into a solid block
+        @Override
+        protected boolean isRandomlyTicking() {
+            return true;
+        }
+
+        @Override
+        protected void randomTick(Level level, BlockPos pos, FluidState state, RandomSource random) {
+            Block packed = getPackedBlock();
+            int settleTicks = Config.get().powderSettleTicks();
+            if (settleTicks <= 0 || packed == null || !level.getBlockState(pos).is(state.createLegacyBlock().getBlock()))
+                return;
+            if (PowderFlowScheduler.getUndisturbedTicks(level, pos) < settleTicks)
+                return;
+            level.setBlock(pos, packed.defaultBlockState(), Block.UPDATE_ALL);
+        }
+
+        @Override
+        public int getAmount(FluidState state) {
+            return 8;
+        }
+
+        @Override
+        public boolean isSource(FluidState state) {
+            return true;
+        }
+    }
+
+    public static class Flowing extends PowderFluid {
+        public Flowing(Properties properties) {
+            super(properties);
+            registerDefaultState(getStateDefinition().any().setValue(LEVEL, 7));
+        }
+
+        @Override
+        protected void createFluidStateDefinition(StateDefinition.Builder<Fluid, FluidState> builder) {
+            super.createFluidStateDefinition(builder);
+            builder.add(LEVEL);
+        }
+
+        @Override
+        public int getAmount(FluidState state) {
+            return state.getValue(LEVEL);
+        }
+
+        @Override
+        public boolean isSource(FluidState state) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package net.myr.createimmersivetacz.gametest;
+
+import com.simibubi.create.AllItems;
+import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
+import com.simibubi.create.foundation.blockEntity.behaviour.scrollValue.ScrollValueBehaviour;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.block.entity.AmmoPressBlockEntity;
+import net.myr.createimmersivetacz.fluid.ModFluids;
+import net.myr.createimmersivetacz.item.ModItems;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import net.myr.createimmersivetacz.stats.TickTimer;
+
+import java.util.function.Predicate;
+
+/**
+ * Throughput regression tests for the reference production lines in {@code data/createimmersivetacz/structures}. Each
+ * line is kept fed for a fixed number of ticks while its output is counted, then the test fails if it made fewer items
+ * per tick than expected or if the mod's machines and recipe callbacks ever took too long in a single tick.
+ * <p>
+ * Runs headless with {@code ./gradlew runGameTestServer}. The limits can be tuned for slower machines with the
+ * {@code createimmersivetacz.gametest.*} system properties, e.g. {@code -Dcreateimmersivetacz.gametest.maxTickNanos=4000000}.
+ */
+@GameTestHolder(CreateImmersiveTacz.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class AmmoLineGameTests {
+    private static final int RUN_TICKS = Integer.getInteger("createimmersivetacz.gametest.runTicks", 400);
+    private static final long MAX_TICK_NANOS = Long.getLong("createimmersivetacz.gametest.maxTickNanos", 2_000_000L);
+    private static final int MOTOR_SPEED = 256;
+
+    // Every line runs in its own batch, so no two lines are measured in the same tick
+    @GameTest(template = "ammo_press_line", batch = "ammo_press_line", timeoutTicks = 1200)
+    public static void ammoPressLine(GameTestHelper helper) {
+        BlockPos motor = new BlockPos(1, 1, 0);
+        BlockPos press = new BlockPos(1, 1, 1);
+        Item casing = ModItems.TWELVE_GAUGE_SHELL.get();
+        Item ammo = ForgeRegistries.ITEMS.getValue(ResultTemplates.AMMO_ITEM);
+        setMotorSpeed(helper, motor);
+
+        // 256 RPM presses 5 rounds every 16 ticks
+        LineRun run = new LineRun(helper, "Ammo Press", minRate("minPressRoundsPerTick", 0.25));
+        run.onEachTick(() -> {
+            BlockEntity blockEntity = helper.getBlockEntity(press);
+            IItemHandler items = getItems(blockEntity, Direction.UP);
+            topUp(items, new ItemStack(casing, 64));
+            topUp(items, new ItemStack(ModItems.PRIMER.get(), 64));
+            topUpFluid(blockEntity, new FluidStack(ModFluids.SOURCE_GUNPOWDER.get(), AmmoPressBlockEntity.TANK_CAPACITY));
+            run.produced(extract(items, stack -> stack.is(ammo)));
+            run.tick();
+        });
+        run.finishAt(RUN_TICKS);
+    }
+
+    @GameTest(template = "primer_line", batch = "primer_line", timeoutTicks = 1200)
+    public static void primerLine(GameTestHelper helper) {
+        BlockPos depot = new BlockPos(1, 1, 1);
+        BlockPos spout = new BlockPos(1, 3, 1);
+
+        LineRun run = new LineRun(helper, "Primer", minRate("minPrimersPerTick", 0.03));
+        run.onEachTick(() -> {
+            topUpFluid(helper.getBlockEntity(spout), new FluidStack(ModFluids.SOURCE_GUNPOWDER.get(), 1000));
+            IItemHandler items = getItems(helper.getBlockEntity(depot), Direction.UP);
+            run.produced(extract(items, stack -> stack.is(ModItems.PRIMER.get())));
+            topUp(items, new ItemStack(AllItems.ANDESITE_ALLOY.get(), 16));
+            run.tick();
+        });
+        run.finishAt(RUN_TICKS);
+    }
+
+    @GameTest(template = "gun_part_line", batch = "gun_part_line", timeoutTicks = 1200)
+    public static void gunPartLine(GameTestHelper helper) {
+        BlockPos motor = new BlockPos(1, 1, 0);
+        BlockPos crafter = new BlockPos(1, 1, 1);
+        BlockPos chest = new BlockPos(1, 0, 1);
+        Item gun = ForgeRegistries.ITEMS.getValue(ResultTemplates.GUN_ITEM);
+        setMotorSpeed(helper, motor);
+
+        // The single crafter turns a wrench into the melee wrench gun
+        LineRun run = new LineRun(helper, "Gun part", minRate("minGunPartsPerTick", 0.01));
+        run.onEachTick(() -> {
+            IItemHandler crafterItems = getItems(helper.getBlockEntity(crafter), Direction.NORTH);
+            ItemHandlerHelper.insertItem(crafterItems, new ItemStack(AllItems.WRENCH.get()), false);
+            run.produced(extract(getItems(helper.getBlockEntity(chest), Direction.UP), stack -> stack.is(gun)));
+            // Without an inventory to eject into the crafter drops its result instead
+            for (ItemEntity item : helper.getEntities(EntityType.ITEM)) {
+                if (item.getItem().is(gun)) {
+                    run.produced(item.getItem().getCount());
+                    item.discard();
+                }
+            }
+            run.tick();
+        });
+        run.finishAt(RUN_TICKS);
+    }
+
+    private static double minRate(String property, double defaultRate) {
+        String value = System.getProperty("createimmersivetacz.gametest." + property);
+        return value == null ? defaultRate : Double.parseDouble(value);
+    }
+
+    private static void setMotorSpeed(GameTestHelper helper, BlockPos motor) {
+        ScrollValueBehaviour speed = BlockEntityBehaviour.get(helper.getBlockEntity(motor), ScrollValueBehaviour.TYPE);
+        if (speed == null)
+            helper.fail("Expected a creative motor", motor);
+        else
+            speed.setValue(MOTOR_SPEED);
+    }
+
+    private static IItemHandler getItems(BlockEntity blockEntity, Direction side) {
+        return blockEntity.getCapability(ForgeCapabilities.ITEM_HANDLER, side)
+                .orElseThrow(() -> new IllegalStateException("No item handler on " + blockEntity.getBlockPos()));
+    }
+
+    private static void topUp(IItemHandler items, ItemStack stack) {
+        ItemHandlerHelper.insertItemStacked(items, stack, false);
+    }
+
+    private static void topUpFluid(BlockEntity blockEntity, FluidStack fluid) {
+        blockEntity.getCapability(ForgeCapabilities.FLUID_HANDLER, Direction.UP)
+                .ifPresent(tank -> tank.fill(fluid, IFluidHandler.FluidAction.EXECUTE));
+    }
+
+    private static int extract(IItemHandler items, Predicate<ItemStack> filter) {
+        int extracted = 0;
+        for (int slot = 0; slot < items.getSlots(); slot++) {
+            if (filter.test(items.getStackInSlot(slot)))
+                extracted += items.extractItem(slot, Integer.MAX_VALUE, false).getCount();
+        }
+        return extracted;
+    }
+
+    /**
+     * Counts the output of one line and the time spent in the mod's code each tick.
+     */
+    private static class LineRun {
+        private final GameTestHelper helper;
+        private final String name;
+        private final double minRate;
+        private long produced;
+        private long maxTickNanos;
+        private int ticks;
+        private boolean timing;
+
+        private LineRun(GameTestHelper helper, String name, double minRate) {
+            this.helper = helper;
+            this.name = name;
+            this.minRate = minRate;
+            TickTimer.enable();
+            timing = true;
+        }
+
+        // A body that throws fails the test and nothing after it runs, so timing is turned off on the way out
+        private void onEachTick(Runnable body) {
+            helper.onEachTick(() -> {
+                try {
+                    body.run();
+                } catch (RuntimeException | Error e) {
+                    stopTiming();
+                    throw e;
+                }
+            });
+        }
+
+        private void stopTiming() {
+            if (!timing)
+                return;
+            timing = false;
+            TickTimer.disable();
+        }
+
+        private void produced(int count) {
+            produced += count;
+        }
+
+        private void tick() {
+            maxTickNanos = Math.max(maxTickNanos, TickTimer.takeTickNanos());
+            ticks++;
+        }
+
+        private void finishAt(int runTicks) {
+            helper.runAtTickTime(runTicks, () -> {
+                stopTiming();
+                double rate = (double) produced / Math.max(1, ticks);
+                CreateImmersiveTacz.LOGGER.info("{} line: {} items in {} ticks ({} per tick), slowest tick {} ns",
+                        name, produced, ticks, String.format("%.4f", rate), maxTickNanos);
+                if (rate < minRate)
+                    helper.fail(String.format("%s line made %.4f items per tick, expected at least %.4f", name, rate, minRate));
+                else if (maxTickNanos > MAX_TICK_NANOS)
+                    helper.fail(String.format("%s line spent %d ns in one tick, expected at most %d", name, maxTickNanos, MAX_TICK_NANOS));
+                else
+                    helper.succeed();
+            });
+        }
+    }
+}
@@ -5,9 +5,11 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.CreativeModeTab;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.DeferredRegister;
 import net.minecraftforge.registries.RegistryObject;
 import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.block.ModBlocks;
 
 public class ModCreativeModeTabs {
     public static final DeferredRegister<CreativeModeTab> CREATIVE_MODE_TABS = DeferredRegister.create(Registries.CREATIVE_MODE_TAB, CreateImmersiveTacz.MOD_ID);
@@ -28,7 +30,12 @@ public class ModCreativeModeTabs {
                         output.accept(ModItems.TWELVE_GAUGE_SHELL.get());
                         output.accept(ModItems.PRIMER.get());
                         output.accept(ModItems.FIRING_MECHANISM.get());
-                        output.accept(ModItems.NITROPOWDER_BUCKET.get());
+                        if (ModList.get().isLoaded(CreateImmersiveTacz.BIG_CANNONS_ID))
+                            output.accept(ModItems.NITROPOWDER_BUCKET.get());
+                        output.accept(ModBlocks.AMMO_PRESS.get());
+                        output.accept(ModBlocks.POWDER_MAGAZINE.get());
+                        output.accept(ModBlocks.AMMO_CRATE.get());
+                        output.accept(ModBlocks.POWDER_CHUTE.get());
                     })
                     .build());
     public static void register(IEventBus eventBus){
@@ -0,0 +1,37 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.simibubi.create.content.processing.basin.BasinBlockEntity;
+import com.simibubi.create.content.processing.basin.BasinRecipe;
+import com.simibubi.create.content.processing.recipe.ProcessingRecipe;
+import com.simibubi.create.foundation.fluid.FluidIngredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+
+@Mixin(value = BasinRecipe.class, remap = false)
+public abstract class BasinRecipeMixin {
+
+    @Inject(method = "apply(Lcom/simibubi/create/content/processing/basin/BasinBlockEntity;Lnet/minecraft/world/item/crafting/Recipe;)Z",
+            at = @At("RETURN"))
+    private static void createimmersivetacz$recordMixing(BasinBlockEntity basin, Recipe<?> recipe, CallbackInfoReturnable<Boolean> cir) {
+        Level level = basin.getLevel();
+        if (!cir.getReturnValueZ() || level == null || !ProductionStats.isModRecipe(recipe.getId())
+                || !(recipe instanceof ProcessingRecipe<?> processingRecipe))
+            return;
+        for (FluidIngredient ingredient : processingRecipe.getFluidIngredients()) {
+            List<FluidStack> matching = ingredient.getMatchingFluidStacks();
+            if (!matching.isEmpty())
+                ProductionStats.recordPowderConsumed(level, new FluidStack(matching.get(0), ingredient.getRequiredAmount()));
+        }
+        for (FluidStack result : processingRecipe.getFluidResults())
+            ProductionStats.record(level, recipe.getId(), result);
+        processingRecipe.getRollableResults().forEach(output -> ProductionStats.record(level, recipe.getId(), output.getStack()));
+    }
+}
@@ -0,0 +1,29 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.simibubi.create.content.kinetics.belt.behaviour.TransportedItemStackHandlerBehaviour;
+import com.simibubi.create.content.kinetics.belt.transport.TransportedItemStack;
+import com.simibubi.create.content.kinetics.deployer.BeltDeployerCallbacks;
+import com.simibubi.create.content.kinetics.deployer.DeployerBlockEntity;
+import net.minecraft.world.item.crafting.Recipe;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssembly;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssemblyRecipe;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(value = BeltDeployerCallbacks.class, remap = false)
+public abstract class BeltDeployerCallbacksMixin {
+
+    @Inject(method = "activate", at = @At("HEAD"), cancellable = true)
+    private static void createimmersivetacz$activateBatched(TransportedItemStack transported,
+                                                            TransportedItemStackHandlerBehaviour handler,
+                                                            DeployerBlockEntity blockEntity, Recipe<?> recipe,
+                                                            CallbackInfo ci) {
+        if (!(recipe instanceof BatchedAmmoAssemblyRecipe batched))
+            return;
+        BatchedAmmoAssembly.prime(transported, handler, blockEntity,
+                ((DeployerBlockEntityAccessor) blockEntity).createimmersivetacz$getPlayer().getMainHandItem(), batched);
+        ci.cancel();
+    }
+}
@@ -0,0 +1,31 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.RegisterEvent;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.stats.StartupReport;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.function.Supplier;
+
+@Mixin(value = DeferredRegister.class, remap = false)
+public abstract class DeferredRegisterMixin {
+
+    @WrapOperation(method = "addEntries", at = @At(value = "INVOKE",
+            target = "Lnet/minecraftforge/registries/RegisterEvent;register(Lnet/minecraft/resources/ResourceKey;Lnet/minecraft/resources/ResourceLocation;Ljava/util/function/Supplier;)V"))
+    private void createimmersivetacz$timeRegistration(RegisterEvent event, ResourceKey<?> registry, ResourceLocation id,
+                                                          Supplier<?> supplier, Operation<Void> original) {
+        if (!CreateImmersiveTacz.MOD_ID.equals(id.getNamespace())) {
+            original.call(event, registry, id, supplier);
+            return;
+        }
+        long start = System.nanoTime();
+        original.call(event, registry, id, supplier);
+        StartupReport.recordObject(registry, id, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,13 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.simibubi.create.content.kinetics.deployer.DeployerBlockEntity;
+import com.simibubi.create.content.kinetics.deployer.DeployerFakePlayer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(value = DeployerBlockEntity.class, remap = false)
+public interface DeployerBlockEntityAccessor {
+
+    @Accessor("player")
+    DeployerFakePlayer createimmersivetacz$getPlayer();
+}
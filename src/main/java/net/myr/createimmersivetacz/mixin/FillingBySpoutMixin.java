@@ -0,0 +1,70 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.simibubi.create.content.fluids.spout.FillingBySpout;
+import com.simibubi.create.content.fluids.transfer.FillingRecipe;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssembly;
+import net.myr.createimmersivetacz.recipe.BatchedAmmoAssemblyRecipe;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import net.myr.createimmersivetacz.stats.TickTimer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mixin(value = FillingBySpout.class, remap = false)
+public abstract class FillingBySpoutMixin {
+
+    @Inject(method = "canItemBeFilled", at = @At("HEAD"), cancellable = true)
+    private static void createimmersivetacz$canFillPrimed(Level world, ItemStack stack, CallbackInfoReturnable<Boolean> cir) {
+        if (BatchedAmmoAssembly.canFill(world, stack))
+            cir.setReturnValue(true);
+    }
+
+    @Inject(method = "getRequiredAmountForItem", at = @At("HEAD"), cancellable = true)
+    private static void createimmersivetacz$getPrimedAmount(Level world, ItemStack stack, FluidStack availableFluid,
+                                                            CallbackInfoReturnable<Integer> cir) {
+        Optional<BatchedAmmoAssemblyRecipe> recipe = BatchedAmmoAssemblyRecipe.findPrimed(world, stack);
+        if (recipe.isPresent())
+            cir.setReturnValue(BatchedAmmoAssembly.getRequiredAmount(recipe.get(), stack, availableFluid));
+    }
+
+    @Inject(method = "fillItem", at = @At("HEAD"), cancellable = true)
+    private static void createimmersivetacz$fillPrimed(Level world, int requiredAmount, ItemStack stack,
+                                                       FluidStack availableFluid, CallbackInfoReturnable<ItemStack> cir) {
+        Optional<BatchedAmmoAssemblyRecipe> recipe = BatchedAmmoAssemblyRecipe.findPrimed(world, stack);
+        if (recipe.isPresent())
+            cir.setReturnValue(BatchedAmmoAssembly.fill(world, recipe.get(), requiredAmount, stack, availableFluid));
+    }
+
+    @WrapMethod(method = "fillItem")
+    private static ItemStack createimmersivetacz$timeFilling(Level world, int requiredAmount, ItemStack stack,
+                                                             FluidStack availableFluid, Operation<ItemStack> original) {
+        long start = TickTimer.begin();
+        ItemStack result = original.call(world, requiredAmount, stack, availableFluid);
+        TickTimer.end(start, "spout_filling", world, null);
+        return result;
+    }
+
+    @WrapOperation(method = "fillItem", at = @At(value = "INVOKE",
+            target = "Lcom/simibubi/create/content/fluids/transfer/FillingRecipe;rollResults()Ljava/util/List;"))
+    private static List<ItemStack> createimmersivetacz$recordFilling(FillingRecipe recipe, Operation<List<ItemStack>> original,
+                                                                     Level world, int requiredAmount, ItemStack stack,
+                                                                     FluidStack availableFluid) {
+        List<ItemStack> results = original.call(recipe);
+        if (ProductionStats.isModRecipe(recipe.getId())) {
+            for (ItemStack result : results)
+                ProductionStats.record(world, recipe.getId(), result);
+            ProductionStats.recordPowderConsumed(world, new FluidStack(availableFluid, requiredAmount));
+        }
+        return results;
+    }
+}
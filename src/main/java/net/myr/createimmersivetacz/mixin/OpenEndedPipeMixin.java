@@ -0,0 +1,34 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.simibubi.create.content.fluids.OpenEndedPipe;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidType;
+import net.myr.createimmersivetacz.block.custom.PackedPowderBlock;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+// Lets pumps draw packed powder back out as a bucket of its fluid
+@Mixin(value = OpenEndedPipe.class, remap = false)
+public abstract class OpenEndedPipeMixin {
+    @Shadow
+    private Level world;
+    @Shadow
+    private BlockPos outputPos;
+
+    @Inject(method = "removeFluidFromSpace", at = @At("HEAD"), cancellable = true)
+    private void createimmersivetacz$pumpPackedPowder(boolean simulate, CallbackInfoReturnable<FluidStack> cir) {
+        if (world == null || !world.isLoaded(outputPos)
+                || !(world.getBlockState(outputPos).getBlock() instanceof PackedPowderBlock packedPowder))
+            return;
+        if (!simulate)
+            world.setBlock(outputPos, Blocks.AIR.defaultBlockState(), Block.UPDATE_ALL);
+        cir.setReturnValue(new FluidStack(packedPowder.getFluid(), FluidType.BUCKET_VOLUME));
+    }
+}
@@ -0,0 +1,18 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
+import com.simibubi.create.content.processing.recipe.ProcessingRecipe;
+import net.minecraft.world.item.crafting.Recipe;
+import net.myr.createimmersivetacz.Config;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+// Create's machines read the duration when they start an operation, so config edits apply from the next one on
+@Mixin(value = ProcessingRecipe.class, remap = false)
+public abstract class ProcessingRecipeMixin {
+
+    @ModifyReturnValue(method = "getProcessingDuration", at = @At("RETURN"))
+    private int createimmersivetacz$scaleDuration(int duration) {
+        return Config.getRecipeMultipliers().scaleProcessingTime((Recipe<?>) (Object) this, duration);
+    }
+}
@@ -0,0 +1,61 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Share;
+import com.llamalad7.mixinextras.sugar.ref.LocalRef;
+import com.simibubi.create.AllRecipeTypes;
+import com.simibubi.create.content.kinetics.crafter.RecipeGridHandler;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import net.myr.createimmersivetacz.stats.TickTimer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.Optional;
+
+// The crafter only hands back the crafted stack, so the recipe it matched is captured from its two lookups
+@Mixin(value = RecipeGridHandler.class, remap = false)
+public abstract class RecipeGridHandlerMixin {
+
+    @WrapMethod(method = "tryToApplyRecipe")
+    private static ItemStack createimmersivetacz$recordCrafting(Level world, RecipeGridHandler.GroupedItems items,
+                                                                Operation<ItemStack> original,
+                                                                @Share("recipe") LocalRef<Recipe<?>> matched) {
+        long start = TickTimer.begin();
+        ItemStack result = original.call(world, items);
+        TickTimer.end(start, "mechanical_crafting", world, null);
+        Recipe<?> recipe = matched.get();
+        if (result != null && recipe != null && ProductionStats.isModRecipe(recipe.getId()))
+            ProductionStats.record(world, recipe.getId(), result);
+        return result;
+    }
+
+    @WrapOperation(method = "tryToApplyRecipe", at = @At(value = "INVOKE", remap = true,
+            target = "Lnet/minecraft/world/item/crafting/RecipeManager;getRecipeFor(Lnet/minecraft/world/item/crafting/RecipeType;Lnet/minecraft/world/Container;Lnet/minecraft/world/level/Level;)Ljava/util/Optional;"))
+    private static Optional<? extends Recipe<?>> createimmersivetacz$captureCraftingRecipe(RecipeManager recipeManager, RecipeType<?> type,
+                                                                                         Container container, Level world,
+                                                                                         Operation<Optional<? extends Recipe<?>>> original,
+                                                                                         @Share("recipe") LocalRef<Recipe<?>> matched) {
+        Optional<? extends Recipe<?>> recipe = original.call(recipeManager, type, container, world);
+        recipe.ifPresent(matched::set);
+        return recipe;
+    }
+
+    @WrapOperation(method = "tryToApplyRecipe", at = @At(value = "INVOKE",
+            target = "Lcom/simibubi/create/AllRecipeTypes;find(Lnet/minecraft/world/Container;Lnet/minecraft/world/level/Level;)Ljava/util/Optional;"))
+    private static Optional<? extends Recipe<?>> createimmersivetacz$captureMechanicalRecipe(AllRecipeTypes type, Container container,
+                                                                                           Level world,
+                                                                                           Operation<Optional<? extends Recipe<?>>> original,
+                                                                                           @Share("recipe") LocalRef<Recipe<?>> matched) {
+        Optional<? extends Recipe<?>> recipe = original.call(type, container, world);
+        recipe.ifPresent(matched::set);
+        return recipe;
+    }
+}
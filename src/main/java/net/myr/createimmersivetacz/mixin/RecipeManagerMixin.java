@@ -0,0 +1,53 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.common.crafting.conditions.ICondition;
+import net.myr.createimmersivetacz.caliber.CaliberRecipes;
+import net.myr.createimmersivetacz.stats.RecipeParseStats;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.Map;
+
+@Mixin(RecipeManager.class)
+public abstract class RecipeManagerMixin {
+
+    @Inject(method = "apply(Ljava/util/Map;Lnet/minecraft/server/packs/resources/ResourceManager;Lnet/minecraft/util/profiling/ProfilerFiller;)V",
+            at = @At("HEAD"))
+    private void createimmersivetacz$beginApply(Map<ResourceLocation, JsonElement> recipes, ResourceManager resourceManager,
+                                                ProfilerFiller profiler, CallbackInfo ci) {
+        RecipeParseStats.begin();
+        CaliberRecipes.setDatapackIds(recipes.keySet());
+    }
+
+    @WrapOperation(method = "apply(Ljava/util/Map;Lnet/minecraft/server/packs/resources/ResourceManager;Lnet/minecraft/util/profiling/ProfilerFiller;)V",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/item/crafting/RecipeManager;fromJson(Lnet/minecraft/resources/ResourceLocation;Lcom/google/gson/JsonObject;Lnet/minecraftforge/common/crafting/conditions/ICondition$IContext;)Lnet/minecraft/world/item/crafting/Recipe;"))
+    private Recipe<?> createimmersivetacz$timeParse(ResourceLocation id, JsonObject json, ICondition.IContext context,
+                                                    Operation<Recipe<?>> original) {
+        long start = System.nanoTime();
+        Recipe<?> recipe = null;
+        try {
+            recipe = original.call(id, json, context);
+            return recipe;
+        } finally {
+            RecipeParseStats.record(id, System.nanoTime() - start, recipe);
+        }
+    }
+
+    @Inject(method = "apply(Ljava/util/Map;Lnet/minecraft/server/packs/resources/ResourceManager;Lnet/minecraft/util/profiling/ProfilerFiller;)V",
+            at = @At("RETURN"))
+    private void createimmersivetacz$finishParseStats(Map<ResourceLocation, JsonElement> recipes, ResourceManager resourceManager,
+                                                      ProfilerFiller profiler, CallbackInfo ci) {
+        RecipeParseStats.finish(resourceManager);
+    }
+}
@@ -0,0 +1,41 @@
+package net.myr.createimmersivetacz.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.simibubi.create.content.kinetics.saw.SawBlockEntity;
+import com.simibubi.create.content.processing.recipe.ProcessingInventory;
+import com.simibubi.create.foundation.blockEntity.behaviour.filtering.FilteringBehaviour;
+import com.simibubi.create.foundation.recipe.RecipeFinder;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.level.Level;
+import net.myr.createimmersivetacz.recipe.CuttingRecipeIndex;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+// Narrows the cutting candidates to the indexed recipe; Create still checks sequenced assembly first and still runs
+// its own filter, ingredient and automation checks on what is returned
+@Mixin(value = SawBlockEntity.class, remap = false)
+public abstract class SawBlockEntityMixin {
+    @Shadow
+    private FilteringBehaviour filtering;
+    @Shadow
+    public ProcessingInventory inventory;
+
+    @WrapOperation(method = "getRecipes",
+            at = @At(value = "INVOKE", target = "Lcom/simibubi/create/foundation/recipe/RecipeFinder;get(Ljava/lang/Object;Lnet/minecraft/world/level/Level;Ljava/util/function/Predicate;)Ljava/util/List;"))
+    private List<Recipe<?>> createimmersivetacz$findIndexedRecipe(Object cacheKey, Level level, Predicate<Recipe<?>> conditions,
+                                                                  Operation<List<Recipe<?>>> original) {
+        ItemStack filter = filtering.getFilter();
+        if (!filter.isEmpty()) {
+            Recipe<?> recipe = CuttingRecipeIndex.find(inventory.getStackInSlot(0).getItem(), filter.getItem());
+            if (recipe != null && conditions.test(recipe))
+                return List.of(recipe);
+        }
+        return original.call(cacheKey, level, conditions);
+    }
+}
@@ -0,0 +1,85 @@
+package net.myr.createimmersivetacz.network;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.ConfigSnapshot;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.recipe.RecipeMultipliers;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps clients on the server's {@link SyncedConfig}. Config edits are published from the file watcher thread, so the
+ * server thread notices a new snapshot by reference on its next tick and sends every remote player only the fields that
+ * changed. Players on the same JVM as the server already read the same config and are skipped.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class ConfigSync {
+    @Nullable
+    private static ConfigSnapshot sentConfig;
+    @Nullable
+    private static RecipeMultipliers sentMultipliers;
+    @Nullable
+    private static SyncedConfig sent;
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player && isRemote(player))
+            ModMessages.sendToPlayer(new ConfigSyncPacket(SyncedConfig.ALL, current()), player);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END)
+            return;
+        ConfigSnapshot config = Config.get();
+        RecipeMultipliers multipliers = Config.getRecipeMultipliers();
+        if (config == sentConfig && multipliers == sentMultipliers)
+            return;
+        sentConfig = config;
+        sentMultipliers = multipliers;
+
+        SyncedConfig values = SyncedConfig.of(config, multipliers);
+        int mask = sent == null ? SyncedConfig.ALL : values.diff(sent);
+        sent = values;
+        if (mask == 0)
+            return;
+
+        ConfigSyncPacket packet = new ConfigSyncPacket(mask, values);
+        MinecraftServer server = event.getServer();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            if (isRemote(player))
+                ModMessages.sendToPlayer(packet, player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        sentConfig = null;
+        sentMultipliers = null;
+        sent = null;
+    }
+
+    private static SyncedConfig current() {
+        return SyncedConfig.of(Config.get(), Config.getRecipeMultipliers());
+    }
+
+    private static boolean isRemote(ServerPlayer player) {
+        return !player.connection.connection.isMemoryConnection();
+    }
+
+    @Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID, value = Dist.CLIENT)
+    public static class ClientEvents {
+        @SubscribeEvent
+        public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+            Config.clearServerValues();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.myr.createimmersivetacz.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import net.myr.createimmersivetacz.Config;
+
+import java.util.function.Supplier;
+
+/**
+ * Carries the server-authoritative config to a client: every field right after login, then only the fields an edit
+ * changed.
+ */
+public class ConfigSyncPacket {
+    private final int mask;
+    private final SyncedConfig values;
+
+    public ConfigSyncPacket(int mask, SyncedConfig values) {
+        this.mask = mask;
+        this.values = values;
+    }
+
+    public ConfigSyncPacket(FriendlyByteBuf buffer) {
+        this.mask = buffer.readUnsignedByte();
+        this.values = SyncedConfig.read(buffer, mask);
+    }
+
+    public void toBytes(FriendlyByteBuf buffer) {
+        values.write(buffer, mask);
+    }
+
+    // Merged on the main thread, so a delta always lands on top of the packet before it
+    public void handle(Supplier<NetworkEvent.Context> supplier) {
+        Config.applyServerValues(values, mask);
+    }
+}
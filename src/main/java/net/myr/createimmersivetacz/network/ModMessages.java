@@ -0,0 +1,42 @@
+package net.myr.createimmersivetacz.network;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.PacketDistributor;
+import net.minecraftforge.network.simple.SimpleChannel;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+
+public class ModMessages {
+    private static final String PROTOCOL_VERSION = "1";
+
+    private static SimpleChannel INSTANCE;
+
+    private static int packetId = 0;
+
+    private static int id() {
+        return packetId++;
+    }
+
+    public static void register() {
+        SimpleChannel net = NetworkRegistry.ChannelBuilder
+                .named(new ResourceLocation(CreateImmersiveTacz.MOD_ID, "messages"))
+                .networkProtocolVersion(() -> PROTOCOL_VERSION)
+                .clientAcceptedVersions(PROTOCOL_VERSION::equals)
+                .serverAcceptedVersions(PROTOCOL_VERSION::equals)
+                .simpleChannel();
+
+        INSTANCE = net;
+
+        net.messageBuilder(ConfigSyncPacket.class, id(), NetworkDirection.PLAY_TO_CLIENT)
+                .decoder(ConfigSyncPacket::new)
+                .encoder(ConfigSyncPacket::toBytes)
+                .consumerMainThread(ConfigSyncPacket::handle)
+                .add();
+    }
+
+    public static <MSG> void sendToPlayer(MSG message, ServerPlayer player) {
+        INSTANCE.send(PacketDistributor.PLAYER.with(() -> player), message);
+    }
+}
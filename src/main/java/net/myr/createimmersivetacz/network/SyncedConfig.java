@@ -0,0 +1,139 @@
+package net.myr.createimmersivetacz.network;
+
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.myr.createimmersivetacz.ConfigSnapshot;
+import net.myr.createimmersivetacz.recipe.RecipeMultipliers;
+
+/**
+ * The config values the server is the authority on, which clients take over while connected so they predict and display
+ * the same behaviour. Each value has a bit in a field mask, and only the fields set in a mask are written.
+ */
+public record SyncedConfig(int powderFlowBudget, boolean volatilePowder, int maxDetonationsPerTick, int powderSettleTicks,
+                           RecipeMultipliers recipeMultipliers) {
+    public static final int POWDER_FLOW_BUDGET = 1;
+    public static final int VOLATILE_POWDER = 1 << 1;
+    public static final int MAX_DETONATIONS_PER_TICK = 1 << 2;
+    public static final int POWDER_SETTLE_TICKS = 1 << 3;
+    public static final int PROCESSING_TIME_BY_TYPE = 1 << 4;
+    public static final int PROCESSING_TIME_BY_CALIBER = 1 << 5;
+    public static final int BATCH_SIZE_BY_TYPE = 1 << 6;
+    public static final int BATCH_SIZE_BY_CALIBER = 1 << 7;
+    public static final int ALL = (1 << 8) - 1;
+
+    public static SyncedConfig of(ConfigSnapshot config, RecipeMultipliers recipeMultipliers) {
+        return new SyncedConfig(config.powderFlowBudget(), config.volatilePowder(), config.maxDetonationsPerTick(),
+                config.powderSettleTicks(), recipeMultipliers);
+    }
+
+    /**
+     * @return the mask of fields whose value differs from {@code other}
+     */
+    public int diff(SyncedConfig other) {
+        RecipeMultipliers multipliers = recipeMultipliers;
+        RecipeMultipliers otherMultipliers = other.recipeMultipliers;
+        int mask = 0;
+        if (powderFlowBudget != other.powderFlowBudget)
+            mask |= POWDER_FLOW_BUDGET;
+        if (volatilePowder != other.volatilePowder)
+            mask |= VOLATILE_POWDER;
+        if (maxDetonationsPerTick != other.maxDetonationsPerTick)
+            mask |= MAX_DETONATIONS_PER_TICK;
+        if (powderSettleTicks != other.powderSettleTicks)
+            mask |= POWDER_SETTLE_TICKS;
+        if (!multipliers.getProcessingTimeByType().equals(otherMultipliers.getProcessingTimeByType()))
+            mask |= PROCESSING_TIME_BY_TYPE;
+        if (!multipliers.getProcessingTimeByCaliber().equals(otherMultipliers.getProcessingTimeByCaliber()))
+            mask |= PROCESSING_TIME_BY_CALIBER;
+        if (!multipliers.getBatchSizeByType().equals(otherMultipliers.getBatchSizeByType()))
+            mask |= BATCH_SIZE_BY_TYPE;
+        if (!multipliers.getBatchSizeByCaliber().equals(otherMultipliers.getBatchSizeByCaliber()))
+            mask |= BATCH_SIZE_BY_CALIBER;
+        return mask;
+    }
+
+    /**
+     * @return these values for the fields in {@code mask} and the ones of {@code base} for the rest
+     */
+    public SyncedConfig merge(SyncedConfig base, int mask) {
+        RecipeMultipliers multipliers = recipeMultipliers;
+        RecipeMultipliers baseMultipliers = base.recipeMultipliers;
+        return new SyncedConfig(
+                (mask & POWDER_FLOW_BUDGET) != 0 ? powderFlowBudget : base.powderFlowBudget,
+                (mask & VOLATILE_POWDER) != 0 ? volatilePowder : base.volatilePowder,
+                (mask & MAX_DETONATIONS_PER_TICK) != 0 ? maxDetonationsPerTick : base.maxDetonationsPerTick,
+                (mask & POWDER_SETTLE_TICKS) != 0 ? powderSettleTicks : base.powderSettleTicks,
+                new RecipeMultipliers(
+                        (mask & PROCESSING_TIME_BY_TYPE) != 0 ? multipliers.getProcessingTimeByType() : baseMultipliers.getProcessingTimeByType(),
+                        (mask & PROCESSING_TIME_BY_CALIBER) != 0 ? multipliers.getProcessingTimeByCaliber() : baseMultipliers.getProcessingTimeByCaliber(),
+                        (mask & BATCH_SIZE_BY_TYPE) != 0 ? multipliers.getBatchSizeByType() : baseMultipliers.getBatchSizeByType(),
+                        (mask & BATCH_SIZE_BY_CALIBER) != 0 ? multipliers.getBatchSizeByCaliber() : baseMultipliers.getBatchSizeByCaliber()));
+    }
+
+    /**
+     * @return {@code local} with the server's values in place of its own
+     */
+    public ConfigSnapshot applyTo(ConfigSnapshot local) {
+        return new ConfigSnapshot(local.logDirtBlock(), local.magicNumber(), local.magicNumberIntroduction(), local.items(),
+                powderFlowBudget, volatilePowder, maxDetonationsPerTick, powderSettleTicks,
+                local.metricsEnabled(), local.metricsPort(), local.metricsFileSeconds());
+    }
+
+    public void write(FriendlyByteBuf buffer, int mask) {
+        buffer.writeByte(mask);
+        if ((mask & POWDER_FLOW_BUDGET) != 0)
+            buffer.writeVarInt(powderFlowBudget);
+        if ((mask & VOLATILE_POWDER) != 0)
+            buffer.writeBoolean(volatilePowder);
+        if ((mask & MAX_DETONATIONS_PER_TICK) != 0)
+            buffer.writeVarInt(maxDetonationsPerTick);
+        if ((mask & POWDER_SETTLE_TICKS) != 0)
+            buffer.writeVarInt(powderSettleTicks);
+        if ((mask & PROCESSING_TIME_BY_TYPE) != 0)
+            writeMultipliers(buffer, recipeMultipliers.getProcessingTimeByType());
+        if ((mask & PROCESSING_TIME_BY_CALIBER) != 0)
+            writeMultipliers(buffer, recipeMultipliers.getProcessingTimeByCaliber());
+        if ((mask & BATCH_SIZE_BY_TYPE) != 0)
+            writeMultipliers(buffer, recipeMultipliers.getBatchSizeByType());
+        if ((mask & BATCH_SIZE_BY_CALIBER) != 0)
+            writeMultipliers(buffer, recipeMultipliers.getBatchSizeByCaliber());
+    }
+
+    /**
+     * Reads the fields {@link #write} wrote; the others are left at their defaults and only make sense after
+     * {@link #merge}.
+     */
+    public static SyncedConfig read(FriendlyByteBuf buffer, int mask) {
+        ConfigSnapshot defaults = ConfigSnapshot.DEFAULT;
+        RecipeMultipliers none = RecipeMultipliers.NONE;
+        return new SyncedConfig(
+                (mask & POWDER_FLOW_BUDGET) != 0 ? buffer.readVarInt() : defaults.powderFlowBudget(),
+                (mask & VOLATILE_POWDER) != 0 ? buffer.readBoolean() : defaults.volatilePowder(),
+                (mask & MAX_DETONATIONS_PER_TICK) != 0 ? buffer.readVarInt() : defaults.maxDetonationsPerTick(),
+                (mask & POWDER_SETTLE_TICKS) != 0 ? buffer.readVarInt() : defaults.powderSettleTicks(),
+                new RecipeMultipliers(
+                        (mask & PROCESSING_TIME_BY_TYPE) != 0 ? readMultipliers(buffer) : none.getProcessingTimeByType(),
+                        (mask & PROCESSING_TIME_BY_CALIBER) != 0 ? readMultipliers(buffer) : none.getProcessingTimeByCaliber(),
+                        (mask & BATCH_SIZE_BY_TYPE) != 0 ? readMultipliers(buffer) : none.getBatchSizeByType(),
+                        (mask & BATCH_SIZE_BY_CALIBER) != 0 ? readMultipliers(buffer) : none.getBatchSizeByCaliber()));
+    }
+
+    private static void writeMultipliers(FriendlyByteBuf buffer, Object2DoubleMap<ResourceLocation> multipliers) {
+        buffer.writeVarInt(multipliers.size());
+        for (Object2DoubleMap.Entry<ResourceLocation> entry : Object2DoubleMaps.fastIterable(multipliers)) {
+            buffer.writeResourceLocation(entry.getKey());
+            buffer.writeDouble(entry.getDoubleValue());
+        }
+    }
+
+    private static Object2DoubleMap<ResourceLocation> readMultipliers(FriendlyByteBuf buffer) {
+        int size = buffer.readVarInt();
+        Object2DoubleOpenHashMap<ResourceLocation> multipliers = RecipeMultipliers.newMap();
+        for (int i = 0; i < size; i++)
+            multipliers.put(buffer.readResourceLocation(), buffer.readDouble());
+        return Object2DoubleMaps.unmodifiable(multipliers);
+    }
+}
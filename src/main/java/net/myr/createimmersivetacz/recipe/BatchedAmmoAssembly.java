@@ -0,0 +1,87 @@
+package net.myr.createimmersivetacz.recipe;
+
+import com.simibubi.create.content.kinetics.belt.behaviour.TransportedItemStackHandlerBehaviour;
+import com.simibubi.create.content.kinetics.belt.behaviour.TransportedItemStackHandlerBehaviour.TransportedResult;
+import com.simibubi.create.content.kinetics.belt.transport.TransportedItemStack;
+import com.simibubi.create.content.kinetics.deployer.DeployerBlockEntity;
+import com.simibubi.create.content.kinetics.deployer.DeployerRecipeSearchEvent;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import net.myr.createimmersivetacz.stats.TickTimer;
+
+import java.util.List;
+
+/**
+ * Glue between {@link BatchedAmmoAssemblyRecipe} and Create's deployer and spout, which otherwise only ever
+ * process a single item of a belt stack per cycle.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class BatchedAmmoAssembly {
+    // Sequenced assembly searches at 100, so stacks of bare casings always take the batched path
+    private static final int SEARCH_PRIORITY = 150;
+
+    @SubscribeEvent
+    public static void onDeployerRecipeSearch(DeployerRecipeSearchEvent event) {
+        Level level = event.getBlockEntity().getLevel();
+        if (level == null)
+            return;
+        event.addRecipe(() -> level.getRecipeManager()
+                .getRecipeFor(BatchedAmmoAssemblyRecipe.Type.INSTANCE, event.getInventory(), level), SEARCH_PRIORITY);
+    }
+
+    /**
+     * Replaces the deployer's one-item application with a priming pass over as much of the stack as the held primers allow.
+     */
+    public static void prime(TransportedItemStack transported, TransportedItemStackHandlerBehaviour handler,
+                             DeployerBlockEntity deployer, ItemStack heldItem, BatchedAmmoAssemblyRecipe recipe) {
+        int batch = recipe.getPrimingBatch(transported.stack.getCount(), heldItem.getCount());
+        if (batch <= 0)
+            return;
+        long start = TickTimer.begin();
+
+        TransportedItemStack primed = transported.copy();
+        primed.stack = recipe.prime(transported.stack, batch);
+        primed.locked = true;
+
+        TransportedItemStack left = transported.copy();
+        left.stack.shrink(batch);
+
+        handler.handleProcessingOnItem(transported, TransportedResult.convertToAndLeaveHeld(List.of(primed), left));
+        heldItem.shrink(batch * recipe.getPrimerCount());
+        deployer.sendData();
+        TickTimer.end(start, "deployer_priming", deployer.getLevel(), deployer.getBlockPos());
+    }
+
+    public static boolean canFill(Level level, ItemStack stack) {
+        return BatchedAmmoAssemblyRecipe.findPrimed(level, stack).isPresent();
+    }
+
+    /**
+     * @return the fluid a spout needs for the whole primed stack, or -1 if the fluid is not the recipe's powder
+     */
+    public static int getRequiredAmount(BatchedAmmoAssemblyRecipe recipe, ItemStack stack, FluidStack availableFluid) {
+        if (!recipe.matchesPowder(availableFluid))
+            return -1;
+        int batch = recipe.getFillingBatch(stack, availableFluid);
+        // Not enough for a single round yet: ask for one so the spout holds the item until the tank fills up
+        return Math.max(batch, 1) * recipe.getPowderAmount();
+    }
+
+    public static ItemStack fill(Level level, BatchedAmmoAssemblyRecipe recipe, int requiredAmount, ItemStack stack,
+                                 FluidStack availableFluid) {
+        int rounds = Math.min(stack.getCount(), requiredAmount / recipe.getPowderAmount());
+        if (rounds <= 0)
+            return ItemStack.EMPTY;
+        ProductionStats.recordPowderConsumed(level, new FluidStack(availableFluid, rounds * recipe.getPowderAmount()));
+        availableFluid.shrink(rounds * recipe.getPowderAmount());
+        stack.shrink(rounds);
+        ItemStack result = recipe.getResult(rounds);
+        ProductionStats.record(level, recipe.getId(), result);
+        return result;
+    }
+}
@@ -0,0 +1,235 @@
+package net.myr.createimmersivetacz.recipe;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import net.minecraft.core.NonNullList;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.common.crafting.CraftingHelper;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.caliber.CaliberRegistry;
+import net.myr.createimmersivetacz.item.ModItems;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Primes and fills a whole stack of casings at once. A deployer holding primers turns up to {@code maxBatch}
+ * casings into primed casings per cycle, and a spout then fills every primed casing of the stack in a single pass.
+ */
+public class BatchedAmmoAssemblyRecipe implements Recipe<Container> {
+    public static final String PRIMED_TAG = "Primed";
+
+    private final ResourceLocation id;
+    private final Ingredient casing;
+    private final Ingredient primer;
+    private final int primerCount;
+    private final Fluid powder;
+    private final int powderAmount;
+    private final int maxBatch;
+    private final ItemStack result;
+
+    public BatchedAmmoAssemblyRecipe(ResourceLocation id, Ingredient casing, Ingredient primer, int primerCount,
+                                     Fluid powder, int powderAmount, int maxBatch, ItemStack result) {
+        this.id = id;
+        this.casing = casing;
+        this.primer = primer;
+        this.primerCount = primerCount;
+        this.powder = powder;
+        this.powderAmount = powderAmount;
+        this.maxBatch = maxBatch;
+        this.result = result;
+    }
+
+    // Slot 0 holds the casings, slot 1 the primers, matching the deployer's recipe inventory layout
+    @Override
+    public boolean matches(Container container, Level level) {
+        ItemStack casings = container.getItem(0);
+        return casing.test(casings) && !isPrimed(casings) && primer.test(container.getItem(1));
+    }
+
+    public boolean matchesPrimed(ItemStack stack) {
+        return isPrimed(stack) && casing.test(stack);
+    }
+
+    public boolean matchesPowder(FluidStack fluid) {
+        return !fluid.isEmpty() && fluid.getFluid().isSame(powder);
+    }
+
+    /**
+     * How many casings a single priming pass can handle, bounded by the available primers and the result stack size.
+     */
+    public int getPrimingBatch(int casings, int primers) {
+        return Math.min(Math.min(casings, primers / primerCount), getMaxBatch());
+    }
+
+    /**
+     * How many primed casings a single filling pass can handle with the given fluid, or 0 if there is not enough.
+     */
+    public int getFillingBatch(ItemStack primed, FluidStack fluid) {
+        if (!matchesPowder(fluid))
+            return 0;
+        return Math.min(Math.min(primed.getCount(), getMaxBatch()), fluid.getAmount() / powderAmount);
+    }
+
+    public ItemStack prime(ItemStack casings, int count) {
+        ItemStack primed = casings.copyWithCount(count);
+        primed.getOrCreateTag().putBoolean(PRIMED_TAG, true);
+        return primed;
+    }
+
+    public ItemStack getResult(int rounds) {
+        return result.copyWithCount(result.getCount() * rounds);
+    }
+
+    // The serialized maxBatch stays as parsed, so the server config multiplier can change without a reload
+    public int getMaxBatch() {
+        int batch = Config.getRecipeMultipliers().scaleBatch(this, maxBatch);
+        return Math.max(1, Math.min(batch, result.getMaxStackSize() / Math.max(1, result.getCount())));
+    }
+
+    public Ingredient getCasing() {
+        return casing;
+    }
+
+    public Ingredient getPrimer() {
+        return primer;
+    }
+
+    public int getPrimerCount() {
+        return primerCount;
+    }
+
+    public Fluid getPowder() {
+        return powder;
+    }
+
+    public int getPowderAmount() {
+        return powderAmount;
+    }
+
+    public static boolean isPrimed(ItemStack stack) {
+        return stack.hasTag() && stack.getTag().getBoolean(PRIMED_TAG);
+    }
+
+    public static Optional<BatchedAmmoAssemblyRecipe> findPrimed(Level level, ItemStack stack) {
+        if (!isPrimed(stack))
+            return Optional.empty();
+        BatchedAmmoAssemblyRecipe caliberRecipe = CaliberRegistry.get().getBatchedRecipe(stack.getItem());
+        if (caliberRecipe != null)
+            return Optional.of(caliberRecipe);
+        for (BatchedAmmoAssemblyRecipe recipe : level.getRecipeManager().getAllRecipesFor(Type.INSTANCE)) {
+            if (recipe.matchesPrimed(stack))
+                return Optional.of(recipe);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public ItemStack assemble(Container container, RegistryAccess registryAccess) {
+        return result.copy();
+    }
+
+    @Override
+    public boolean canCraftInDimensions(int width, int height) {
+        return true;
+    }
+
+    @Override
+    public ItemStack getResultItem(RegistryAccess registryAccess) {
+        return result;
+    }
+
+    @Override
+    public NonNullList<Ingredient> getIngredients() {
+        return NonNullList.of(Ingredient.EMPTY, casing, primer);
+    }
+
+    // Keeps these recipes out of the vanilla recipe book
+    @Override
+    public boolean isSpecial() {
+        return true;
+    }
+
+    @Override
+    public ResourceLocation getId() {
+        return id;
+    }
+
+    @Override
+    public RecipeSerializer<?> getSerializer() {
+        return Serializer.INSTANCE;
+    }
+
+    @Override
+    public RecipeType<?> getType() {
+        return Type.INSTANCE;
+    }
+
+    public static class Type implements RecipeType<BatchedAmmoAssemblyRecipe> {
+        public static final Type INSTANCE = new Type();
+        public static final String ID = "batched_ammo_assembly";
+    }
+
+    public static class Serializer implements RecipeSerializer<BatchedAmmoAssemblyRecipe> {
+        public static final Serializer INSTANCE = new Serializer();
+
+        @Override
+        public BatchedAmmoAssemblyRecipe fromJson(ResourceLocation id, JsonObject json) {
+            Ingredient casing = Ingredient.fromJson(GsonHelper.getAsJsonObject(json, "casing"));
+            Ingredient primer = json.has("primer") ? Ingredient.fromJson(json.get("primer"))
+                    : Ingredient.of(ModItems.PRIMER.get());
+            int primerCount = GsonHelper.getAsInt(json, "primerCount", 1);
+            if (primerCount <= 0)
+                throw new JsonSyntaxException("Primer count must be positive");
+
+            JsonObject powderJson = GsonHelper.getAsJsonObject(json, "powder");
+            Fluid powder = ForgeRegistries.FLUIDS.getValue(new ResourceLocation(GsonHelper.getAsString(powderJson, "fluid")));
+            if (powder == null || powder == Fluids.EMPTY)
+                throw new JsonSyntaxException("Unknown powder fluid '" + GsonHelper.getAsString(powderJson, "fluid") + "'");
+            int powderAmount = GsonHelper.getAsInt(powderJson, "amount");
+            if (powderAmount <= 0)
+                throw new JsonSyntaxException("Powder amount must be positive");
+
+            int maxBatch = GsonHelper.getAsInt(json, "maxBatch", 64);
+            ItemStack result = CraftingHelper.getItemStack(GsonHelper.getAsJsonObject(json, "result"), true);
+            return new BatchedAmmoAssemblyRecipe(id, casing, primer, primerCount, powder, powderAmount, maxBatch, result);
+        }
+
+        @Override
+        public @Nullable BatchedAmmoAssemblyRecipe fromNetwork(ResourceLocation id, FriendlyByteBuf buffer) {
+            Ingredient casing = Ingredient.fromNetwork(buffer);
+            Ingredient primer = Ingredient.fromNetwork(buffer);
+            int primerCount = buffer.readVarInt();
+            Fluid powder = ForgeRegistries.FLUIDS.getValue(buffer.readResourceLocation());
+            int powderAmount = buffer.readVarInt();
+            int maxBatch = buffer.readVarInt();
+            ItemStack result = buffer.readItem();
+            return new BatchedAmmoAssemblyRecipe(id, casing, primer, primerCount, powder, powderAmount, maxBatch, result);
+        }
+
+        @Override
+        public void toNetwork(FriendlyByteBuf buffer, BatchedAmmoAssemblyRecipe recipe) {
+            recipe.casing.toNetwork(buffer);
+            recipe.primer.toNetwork(buffer);
+            buffer.writeVarInt(recipe.primerCount);
+            buffer.writeResourceLocation(ForgeRegistries.FLUIDS.getKey(recipe.powder));
+            buffer.writeVarInt(recipe.powderAmount);
+            buffer.writeVarInt(recipe.maxBatch);
+            buffer.writeItem(recipe.result);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package net.myr.createimmersivetacz.recipe;
+
+import com.simibubi.create.AllRecipeTypes;
+import com.simibubi.create.content.kinetics.saw.CuttingRecipe;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Resolves a saw's recipe from its input and filter item in two identity map lookups. Several cutting recipes share
+ * the same input (every casing is cut from brass sheets), so without a filter-aware index the saw has to match and cycle
+ * through all of them.
+ */
+public class CuttingRecipeIndex {
+    private static volatile Map<Item, Map<Item, Recipe<?>>> index = Map.of();
+
+    public static void rebuild(RecipeManager recipeManager, RegistryAccess registryAccess) {
+        Map<Item, Map<Item, Recipe<?>>> built = new IdentityHashMap<>();
+        Map<Item, Map<Item, Boolean>> ambiguous = new IdentityHashMap<>();
+        RecipeType<CuttingRecipe> type = AllRecipeTypes.CUTTING.getType();
+
+        for (CuttingRecipe recipe : recipeManager.getAllRecipesFor(type)) {
+            if (AllRecipeTypes.shouldIgnoreInAutomation(recipe) || recipe.getIngredients().isEmpty())
+                continue;
+            ItemStack output = recipe.getResultItem(registryAccess);
+            if (output.isEmpty())
+                continue;
+
+            for (ItemStack input : recipe.getIngredients().get(0).getItems()) {
+                Map<Item, Recipe<?>> byOutput = built.computeIfAbsent(input.getItem(), item -> new IdentityHashMap<>());
+                if (byOutput.putIfAbsent(output.getItem(), recipe) != null)
+                    ambiguous.computeIfAbsent(input.getItem(), item -> new IdentityHashMap<>()).put(output.getItem(), true);
+            }
+        }
+
+        // Leave genuinely ambiguous pairs to the saw's own lookup, which cycles between them
+        ambiguous.forEach((input, outputs) -> outputs.keySet().forEach(built.get(input)::remove));
+        publish(built);
+    }
+
+    // Also how the lookup benchmark installs an index without Create's recipe types
+    static void publish(Map<Item, Map<Item, Recipe<?>>> built) {
+        index = built;
+    }
+
+    @Nullable
+    public static Recipe<?> find(Item input, Item filter) {
+        Map<Item, Recipe<?>> byOutput = index.get(input);
+        return byOutput == null ? null : byOutput.get(filter);
+    }
+}
@@ -0,0 +1,28 @@
+package net.myr.createimmersivetacz.recipe;
+
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.RegistryObject;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+
+public class ModRecipes {
+    public static final DeferredRegister<RecipeSerializer<?>> SERIALIZERS =
+            DeferredRegister.create(ForgeRegistries.RECIPE_SERIALIZERS, CreateImmersiveTacz.MOD_ID);
+
+    public static final DeferredRegister<RecipeType<?>> RECIPE_TYPES =
+            DeferredRegister.create(ForgeRegistries.RECIPE_TYPES, CreateImmersiveTacz.MOD_ID);
+
+    public static final RegistryObject<RecipeSerializer<BatchedAmmoAssemblyRecipe>> BATCHED_AMMO_ASSEMBLY_SERIALIZER =
+            SERIALIZERS.register(BatchedAmmoAssemblyRecipe.Type.ID, () -> BatchedAmmoAssemblyRecipe.Serializer.INSTANCE);
+
+    public static final RegistryObject<RecipeType<BatchedAmmoAssemblyRecipe>> BATCHED_AMMO_ASSEMBLY_TYPE =
+            RECIPE_TYPES.register(BatchedAmmoAssemblyRecipe.Type.ID, () -> BatchedAmmoAssemblyRecipe.Type.INSTANCE);
+
+    public static void register(IEventBus eventBus) {
+        SERIALIZERS.register(eventBus);
+        RECIPE_TYPES.register(eventBus);
+    }
+}
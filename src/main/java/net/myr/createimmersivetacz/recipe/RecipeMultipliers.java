@@ -0,0 +1,138 @@
+package net.myr.createimmersivetacz.recipe;
+
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.caliber.CaliberRegistry;
+import net.myr.createimmersivetacz.stats.ProductionStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Server config multipliers on the processing time and batch size of this mod's recipes and of the recipes generated for
+ * its calibers, keyed by recipe type and by caliber. Recipes keep the values their serializer parsed and the multipliers
+ * are applied wherever those values are read, so a config edit takes effect on the next operation without a datapack
+ * reload. A recipe matching both a type and a caliber entry gets the product of the two.
+ */
+public final class RecipeMultipliers {
+    public static final double MIN = 0.01;
+    public static final double MAX = 100;
+
+    public static final RecipeMultipliers NONE = new RecipeMultipliers(empty(), empty(), empty(), empty());
+
+    private final Object2DoubleMap<ResourceLocation> processingTimeByType;
+    private final Object2DoubleMap<ResourceLocation> processingTimeByCaliber;
+    private final Object2DoubleMap<ResourceLocation> batchSizeByType;
+    private final Object2DoubleMap<ResourceLocation> batchSizeByCaliber;
+    private final boolean none;
+
+    public RecipeMultipliers(Object2DoubleMap<ResourceLocation> processingTimeByType, Object2DoubleMap<ResourceLocation> processingTimeByCaliber,
+                             Object2DoubleMap<ResourceLocation> batchSizeByType, Object2DoubleMap<ResourceLocation> batchSizeByCaliber) {
+        this.processingTimeByType = processingTimeByType;
+        this.processingTimeByCaliber = processingTimeByCaliber;
+        this.batchSizeByType = batchSizeByType;
+        this.batchSizeByCaliber = batchSizeByCaliber;
+        this.none = processingTimeByType.isEmpty() && processingTimeByCaliber.isEmpty()
+                && batchSizeByType.isEmpty() && batchSizeByCaliber.isEmpty();
+    }
+
+    public int scaleProcessingTime(Recipe<?> recipe, int ticks) {
+        if (none || ticks <= 0)
+            return ticks;
+        return scale(ticks, multiplier(processingTimeByType, processingTimeByCaliber, recipe));
+    }
+
+    public int scaleBatch(Recipe<?> recipe, int batch) {
+        if (none || batch <= 0)
+            return batch;
+        return scale(batch, multiplier(batchSizeByType, batchSizeByCaliber, recipe));
+    }
+
+    private static int scale(int value, double multiplier) {
+        if (multiplier == 1)
+            return value;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(value * multiplier)));
+    }
+
+    private static double multiplier(Object2DoubleMap<ResourceLocation> byType, Object2DoubleMap<ResourceLocation> byCaliber, Recipe<?> recipe) {
+        ResourceLocation caliber = CaliberRegistry.get().getRecipeCaliber(recipe.getId());
+        if (caliber == null && !ProductionStats.isModRecipe(recipe.getId()))
+            return 1;
+        double multiplier = byType.isEmpty() ? 1 : byType.getDouble(ForgeRegistries.RECIPE_TYPES.getKey(recipe.getType()));
+        if (caliber != null)
+            multiplier *= byCaliber.getDouble(caliber);
+        return multiplier;
+    }
+
+    public Object2DoubleMap<ResourceLocation> getProcessingTimeByType() {
+        return processingTimeByType;
+    }
+
+    public Object2DoubleMap<ResourceLocation> getProcessingTimeByCaliber() {
+        return processingTimeByCaliber;
+    }
+
+    public Object2DoubleMap<ResourceLocation> getBatchSizeByType() {
+        return batchSizeByType;
+    }
+
+    public Object2DoubleMap<ResourceLocation> getBatchSizeByCaliber() {
+        return batchSizeByCaliber;
+    }
+
+    /**
+     * Reads {@code "<id>=<multiplier>"} entries, skipping and logging the ones that don't parse. Entries of exactly 1 are
+     * left out, so a map of only those counts as empty.
+     */
+    public static Object2DoubleMap<ResourceLocation> parse(List<? extends String> entries) {
+        Object2DoubleOpenHashMap<ResourceLocation> map = newMap();
+        for (String entry : entries) {
+            ResourceLocation id = parseId(entry);
+            double multiplier = parseMultiplier(entry);
+            if (id == null || Double.isNaN(multiplier)) {
+                CreateImmersiveTacz.LOGGER.warn("Ignoring recipe multiplier '{}'", entry);
+                continue;
+            }
+            if (multiplier != 1)
+                map.put(id, multiplier);
+        }
+        return Object2DoubleMaps.unmodifiable(map);
+    }
+
+    public static boolean isValidEntry(Object entry) {
+        return entry instanceof String string && parseId(string) != null && !Double.isNaN(parseMultiplier(string));
+    }
+
+    @Nullable
+    private static ResourceLocation parseId(String entry) {
+        int split = entry.indexOf('=');
+        return split < 0 ? null : ResourceLocation.tryParse(entry.substring(0, split).trim());
+    }
+
+    private static double parseMultiplier(String entry) {
+        int split = entry.indexOf('=');
+        if (split < 0)
+            return Double.NaN;
+        try {
+            double multiplier = Double.parseDouble(entry.substring(split + 1).trim());
+            return multiplier >= MIN && multiplier <= MAX ? multiplier : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    public static Object2DoubleOpenHashMap<ResourceLocation> newMap() {
+        Object2DoubleOpenHashMap<ResourceLocation> map = new Object2DoubleOpenHashMap<>();
+        map.defaultReturnValue(1);
+        return map;
+    }
+
+    private static Object2DoubleMap<ResourceLocation> empty() {
+        return Object2DoubleMaps.unmodifiable(newMap());
+    }
+}
@@ -0,0 +1,43 @@
+package net.myr.createimmersivetacz.recipe;
+
+import net.minecraft.server.ReloadableServerResources;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.caliber.CaliberRecipes;
+import net.myr.createimmersivetacz.caliber.CaliberReloadListener;
+import org.jetbrains.annotations.Nullable;
+
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class RecipeReloadEvents {
+    @Nullable
+    private static ReloadableServerResources pendingResources;
+    @Nullable
+    private static CaliberReloadListener pendingCalibers;
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        pendingResources = event.getServerResources();
+        pendingCalibers = new CaliberReloadListener();
+        event.addListener(pendingCalibers);
+    }
+
+    // Reload listeners apply in no guaranteed order, so anything derived from the recipe manager waits for the
+    // tag update that closes every server data reload
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD || pendingResources == null)
+            return;
+        RecipeManager recipeManager = pendingResources.getRecipeManager();
+        pendingResources = null;
+
+        if (pendingCalibers != null)
+            CaliberRecipes.inject(recipeManager, pendingCalibers.getSpecs());
+        pendingCalibers = null;
+        CuttingRecipeIndex.rebuild(recipeManager, event.getRegistryAccess());
+        ResultTemplates.rebuild(recipeManager, event.getRegistryAccess());
+    }
+}
@@ -0,0 +1,112 @@
+package net.myr.createimmersivetacz.recipe;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable TaCZ result stacks keyed by their AmmoId, GunId or AttachmentId, collected from the loaded recipes once per
+ * datapack reload. Lookups hand out copies, so the templates themselves are never mutated.
+ * <p>
+ * Crafting doesn't go through here: recipes parse their result NBT once when they are loaded, and Create's
+ * {@code rollResults} and vanilla's {@code assemble} only copy that stack. These are for code that needs a result for an
+ * id with no recipe at hand, such as the ammo crate and the lookups on {@link CreateImmersiveTacz}.
+ */
+public class ResultTemplates {
+    public static final String TACZ = "tacz";
+    public static final String AMMO_ID = "AmmoId";
+    public static final String GUN_ID = "GunId";
+    public static final String ATTACHMENT_ID = "AttachmentId";
+
+    public static final ResourceLocation AMMO_ITEM = new ResourceLocation(TACZ, "ammo");
+    public static final ResourceLocation GUN_ITEM = new ResourceLocation(TACZ, "modern_kinetic_gun");
+    public static final ResourceLocation ATTACHMENT_ITEM = new ResourceLocation(TACZ, "attachment");
+
+    private static volatile Templates templates = new Templates(Map.of(), Map.of(), Map.of());
+
+    private record Templates(Map<ResourceLocation, ItemStack> ammo, Map<ResourceLocation, ItemStack> guns,
+                             Map<ResourceLocation, ItemStack> attachments) {
+    }
+
+    public static void rebuild(RecipeManager recipeManager, RegistryAccess registryAccess) {
+        Map<ResourceLocation, ItemStack> ammo = new HashMap<>();
+        Map<ResourceLocation, ItemStack> guns = new HashMap<>();
+        Map<ResourceLocation, ItemStack> attachments = new HashMap<>();
+
+        for (Recipe<?> recipe : recipeManager.getRecipes()) {
+            ItemStack result = recipe.getResultItem(registryAccess);
+            if (result.isEmpty() || !result.hasTag())
+                continue;
+            ResourceLocation itemId = ForgeRegistries.ITEMS.getKey(result.getItem());
+            if (itemId == null || !TACZ.equals(itemId.getNamespace()))
+                continue;
+
+            CompoundTag tag = result.getTag();
+            collect(ammo, tag, AMMO_ID, result);
+            collect(guns, tag, GUN_ID, result);
+            collect(attachments, tag, ATTACHMENT_ID, result);
+        }
+
+        publish(ammo, guns, attachments);
+        CreateImmersiveTacz.LOGGER.debug("Cached {} ammo, {} gun and {} attachment result templates",
+                ammo.size(), guns.size(), attachments.size());
+    }
+
+    // Also how the lookup benchmark installs templates without TaCZ's items
+    static void publish(Map<ResourceLocation, ItemStack> ammo, Map<ResourceLocation, ItemStack> guns,
+                        Map<ResourceLocation, ItemStack> attachments) {
+        templates = new Templates(Map.copyOf(ammo), Map.copyOf(guns), Map.copyOf(attachments));
+    }
+
+    private static void collect(Map<ResourceLocation, ItemStack> map, CompoundTag tag, String key, ItemStack result) {
+        if (!tag.contains(key))
+            return;
+        ResourceLocation id = ResourceLocation.tryParse(tag.getString(key));
+        if (id != null)
+            map.putIfAbsent(id, result.copyWithCount(1));
+    }
+
+    public static ItemStack ammo(ResourceLocation ammoId, int count) {
+        ItemStack template = templates.ammo().get(ammoId);
+        if (template == null)
+            template = create(AMMO_ITEM, AMMO_ID, ammoId);
+        return template.copyWithCount(count);
+    }
+
+    public static ItemStack gun(ResourceLocation gunId) {
+        ItemStack template = templates.guns().get(gunId);
+        return template == null ? create(GUN_ITEM, GUN_ID, gunId) : template.copy();
+    }
+
+    public static ItemStack attachment(ResourceLocation attachmentId) {
+        ItemStack template = templates.attachments().get(attachmentId);
+        return template == null ? create(ATTACHMENT_ITEM, ATTACHMENT_ID, attachmentId) : template.copy();
+    }
+
+    @Nullable
+    public static ResourceLocation getAmmoId(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        return tag == null || !tag.contains(AMMO_ID) ? null : ResourceLocation.tryParse(tag.getString(AMMO_ID));
+    }
+
+    // Ids no recipe produces are rare, so they are built on demand rather than cached
+    private static ItemStack create(ResourceLocation itemId, String key, ResourceLocation id) {
+        Item item = ForgeRegistries.ITEMS.getValue(itemId);
+        if (item == null || item == Items.AIR)
+            return ItemStack.EMPTY;
+        ItemStack stack = new ItemStack(item);
+        stack.getOrCreateTag().putString(key, id.toString());
+        return stack;
+    }
+}
@@ -0,0 +1,212 @@
+package net.myr.createimmersivetacz.stats;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.minecraft.SharedConstants;
+import net.minecraft.Util;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.Config;
+import net.myr.createimmersivetacz.ConfigSnapshot;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes {@link ProductionStats} and the mod's {@link TickTimer} time in Prometheus text format, on
+ * {@code http://127.0.0.1:<metricsPort>/metrics} and as a file in the world folder. Off unless {@code metricsEnabled}
+ * is set.
+ * <p>
+ * Scrapes and file writes render the text on their own thread. The counters are concurrent maps of {@code LongAdder}s
+ * and the tick time is handed over through volatile fields, so neither ever waits on the server thread.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class ModMetrics {
+    public static final String FILE_NAME = CreateImmersiveTacz.MOD_ID + "_metrics.prom";
+
+    private static final String PREFIX = CreateImmersiveTacz.MOD_ID + "_";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static boolean running;
+    private static int ticks;
+    private static long previousTotalNanos;
+    private static volatile long totalNanos;
+    private static volatile long lastTickNanos;
+
+    @Nullable
+    private static HttpServer httpServer;
+    @Nullable
+    private static ExecutorService httpExecutor;
+    @Nullable
+    private static Path file;
+    private static final AtomicBoolean WRITING = new AtomicBoolean();
+
+    public static void start(MinecraftServer server) {
+        stop();
+        ConfigSnapshot config = Config.get();
+        if (!config.metricsEnabled())
+            return;
+        running = true;
+        ticks = 0;
+        previousTotalNanos = TickTimer.getTotalNanos();
+        TickTimer.setMetrics(true);
+
+        if (config.metricsFileSeconds() > 0)
+            file = server.getWorldPath(LevelResource.ROOT).resolve(FILE_NAME);
+        if (config.metricsPort() > 0)
+            serve(config.metricsPort());
+    }
+
+    private static void serve(int port) {
+        try {
+            HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            http.createContext("/metrics", ModMetrics::handle);
+            httpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CreateImmersiveTacz metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            http.setExecutor(httpExecutor);
+            http.start();
+            httpServer = http;
+            CreateImmersiveTacz.LOGGER.info("Serving metrics on http://127.0.0.1:{}/metrics", port);
+        } catch (IOException e) {
+            CreateImmersiveTacz.LOGGER.error("Couldn't serve metrics on port {}", port, e);
+            if (httpExecutor != null)
+                httpExecutor.shutdownNow();
+            httpExecutor = null;
+        }
+    }
+
+    private static void stop() {
+        if (!running)
+            return;
+        running = false;
+        TickTimer.setMetrics(false);
+        if (httpServer != null)
+            httpServer.stop(0);
+        if (httpExecutor != null)
+            httpExecutor.shutdownNow();
+        httpServer = null;
+        httpExecutor = null;
+        file = null;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !running)
+            return;
+        long total = TickTimer.getTotalNanos();
+        lastTickNanos = total - previousTotalNanos;
+        totalNanos = total;
+        previousTotalNanos = total;
+
+        Path target = file;
+        int fileSeconds = Config.get().metricsFileSeconds();
+        if (target != null && fileSeconds > 0 && ++ticks % (fileSeconds * SharedConstants.TICKS_PER_SECOND) == 0
+                && WRITING.compareAndSet(false, true))
+            Util.ioPool().execute(() -> write(target));
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        stop();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Written next to the target and moved over it, so readers never see half a file
+    private static void write(Path target) {
+        try {
+            Path temp = target.resolveSibling(FILE_NAME + ".tmp");
+            Files.writeString(temp, render(), StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            CreateImmersiveTacz.LOGGER.warn("Couldn't write {}", target, e);
+        } finally {
+            WRITING.set(false);
+        }
+    }
+
+    public static String render() {
+        StringBuilder out = new StringBuilder();
+
+        header(out, "recipe_output_total", "counter", "Items or mB produced by the mod's recipes, per recipe and output");
+        for (ProductionStats.Entry entry : ProductionStats.snapshot(null)) {
+            ProductionStats.Key key = entry.key();
+            sample(out, "recipe_output_total", entry.count(),
+                    "recipe", key.recipe(), "output", key.output(), "dimension", key.dimension());
+        }
+
+        powder(out, "powder_produced_millibuckets_total", "Powder fluid produced by the mod's recipes, in mB",
+                ProductionStats.powderProduced());
+        powder(out, "powder_consumed_millibuckets_total", "Powder fluid used up by the mod's machines and recipes, in mB",
+                ProductionStats.powderConsumed());
+
+        header(out, "tick_seconds_total", "counter", "Server thread time spent in the mod's machines, recipe callbacks and fluid ticks");
+        sample(out, "tick_seconds_total", totalNanos / NANOS_PER_SECOND);
+        header(out, "last_tick_seconds", "gauge", "Time the last server tick spent in the mod's code");
+        sample(out, "last_tick_seconds", lastTickNanos / NANOS_PER_SECOND);
+        return out.toString();
+    }
+
+    private static void powder(StringBuilder out, String name, String help, List<ProductionStats.PowderEntry> entries) {
+        header(out, name, "counter", help);
+        for (ProductionStats.PowderEntry entry : entries)
+            sample(out, name, entry.amount(), "fluid", entry.key().fluid(), "dimension", entry.key().dimension());
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, Object value, String... labels) {
+        out.append(PREFIX).append(name);
+        if (labels.length > 0) {
+            out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0)
+                    out.append(',');
+                out.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,135 @@
+package net.myr.createimmersivetacz.stats;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.fluid.ModFluidTypes;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what the mod's recipes produce, per recipe, output and dimension, and emits a {@link RecipeCompletedEvent}
+ * for every completion so JFR recordings can line factory activity up with tick times. Powder made and used up is
+ * counted separately in mB, per fluid and dimension.
+ */
+public class ProductionStats {
+    public record Key(String recipe, String output, String dimension) {
+    }
+
+    public record Entry(Key key, long count) {
+    }
+
+    public record PowderKey(String fluid, String dimension) {
+    }
+
+    public record PowderEntry(PowderKey key, long amount) {
+    }
+
+    private static final Map<Key, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<PowderKey, LongAdder> POWDER_PRODUCED = new ConcurrentHashMap<>();
+    private static final Map<PowderKey, LongAdder> POWDER_CONSUMED = new ConcurrentHashMap<>();
+
+    public static boolean isModRecipe(ResourceLocation recipeId) {
+        return CreateImmersiveTacz.MOD_ID.equals(recipeId.getNamespace());
+    }
+
+    public static void record(Level level, ResourceLocation recipeId, ItemStack output) {
+        if (!output.isEmpty())
+            record(level, recipeId.toString(), getOutputId(output), output.getCount());
+    }
+
+    public static void record(Level level, ResourceLocation recipeId, FluidStack output) {
+        if (output.isEmpty())
+            return;
+        record(level, recipeId.toString(), String.valueOf(ForgeRegistries.FLUIDS.getKey(output.getFluid())), output.getAmount());
+        if (ModFluidTypes.isPowder(output))
+            addPowder(POWDER_PRODUCED, level, output);
+    }
+
+    /**
+     * Counts powder drained by the mod's machines and recipes. Anything that is not a powder fluid is ignored.
+     */
+    public static void recordPowderConsumed(Level level, FluidStack consumed) {
+        if (!consumed.isEmpty() && ModFluidTypes.isPowder(consumed))
+            addPowder(POWDER_CONSUMED, level, consumed);
+    }
+
+    private static void addPowder(Map<PowderKey, LongAdder> counters, Level level, FluidStack fluid) {
+        PowderKey key = new PowderKey(String.valueOf(ForgeRegistries.FLUIDS.getKey(fluid.getFluid())), level.dimension().location().toString());
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(fluid.getAmount());
+    }
+
+    private static void record(Level level, String recipe, String output, long count) {
+        String dimension = level.dimension().location().toString();
+        COUNTERS.computeIfAbsent(new Key(recipe, output, dimension), key -> new LongAdder()).add(count);
+
+        RecipeCompletedEvent event = new RecipeCompletedEvent();
+        if (event.shouldCommit()) {
+            event.recipe = recipe;
+            event.output = output;
+            event.dimension = dimension;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return the TaCZ id a stack stands for, or its item id for anything else
+     */
+    public static String getOutputId(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag != null) {
+            if (tag.contains(ResultTemplates.AMMO_ID))
+                return tag.getString(ResultTemplates.AMMO_ID);
+            if (tag.contains(ResultTemplates.GUN_ID))
+                return tag.getString(ResultTemplates.GUN_ID);
+            if (tag.contains(ResultTemplates.ATTACHMENT_ID))
+                return tag.getString(ResultTemplates.ATTACHMENT_ID);
+        }
+        return String.valueOf(ForgeRegistries.ITEMS.getKey(stack.getItem()));
+    }
+
+    /**
+     * @return the counters whose recipe, output or dimension contains {@code filter}, largest first
+     */
+    public static List<Entry> snapshot(@Nullable String filter) {
+        List<Entry> entries = new ArrayList<>();
+        COUNTERS.forEach((key, counter) -> {
+            if (filter == null || key.recipe().contains(filter) || key.output().contains(filter) || key.dimension().contains(filter))
+                entries.add(new Entry(key, counter.sum()));
+        });
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries;
+    }
+
+    public static List<PowderEntry> powderProduced() {
+        return powderSnapshot(POWDER_PRODUCED);
+    }
+
+    public static List<PowderEntry> powderConsumed() {
+        return powderSnapshot(POWDER_CONSUMED);
+    }
+
+    private static List<PowderEntry> powderSnapshot(Map<PowderKey, LongAdder> counters) {
+        List<PowderEntry> entries = new ArrayList<>();
+        counters.forEach((key, counter) -> entries.add(new PowderEntry(key, counter.sum())));
+        return entries;
+    }
+
+    public static void reset() {
+        COUNTERS.clear();
+        POWDER_PRODUCED.clear();
+        POWDER_CONSUMED.clear();
+    }
+}
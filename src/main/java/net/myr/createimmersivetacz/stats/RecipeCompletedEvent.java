@@ -0,0 +1,28 @@
+package net.myr.createimmersivetacz.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("createimmersivetacz.RecipeCompleted")
+@Label("Recipe Completed")
+@Category({"Create Immersive TaCZ", "Production"})
+@Description("One of the mod's recipes finished and produced its output")
+@StackTrace(false)
+public class RecipeCompletedEvent extends jdk.jfr.Event {
+    @Label("Recipe")
+    public String recipe;
+
+    @Label("Output")
+    @Description("AmmoId, GunId or AttachmentId for TaCZ items, otherwise the item or fluid id")
+    public String output;
+
+    @Label("Dimension")
+    public String dimension;
+
+    @Label("Count")
+    @Description("Items produced, or mB for fluids")
+    public long count;
+}
@@ -0,0 +1,111 @@
+package net.myr.createimmersivetacz.stats;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import net.myr.createimmersivetacz.recipe.ResultTemplates;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Times how long the recipe manager spends turning each recipe JSON into a recipe during a datapack reload, which is
+ * where the serializers parse and validate it. Every recipe counts towards the totals; recipes of this mod or producing
+ * TaCZ items are also kept individually, and the slowest of those are logged with the size of their file.
+ */
+public class RecipeParseStats {
+    public static final int TOP_N = 10;
+
+    public record Sample(ResourceLocation id, long nanos, boolean failed, long bytes) {
+    }
+
+    public record Report(int recipes, long nanos, int tracked, long trackedNanos, int failures, List<Sample> slowest) {
+        public static final Report EMPTY = new Report(0, 0, 0, 0, 0, List.of());
+    }
+
+    private static volatile Report lastReport = Report.EMPTY;
+
+    // Only touched by the reload thread while the recipe manager applies
+    private static final List<Sample> samples = new ArrayList<>();
+    private static int recipes;
+    private static long nanos;
+
+    public static void begin() {
+        samples.clear();
+        recipes = 0;
+        nanos = 0;
+    }
+
+    public static void record(ResourceLocation id, long elapsed, @Nullable Recipe<?> recipe) {
+        recipes++;
+        nanos += elapsed;
+        if (CreateImmersiveTacz.MOD_ID.equals(id.getNamespace()) || producesTaczItem(recipe))
+            samples.add(new Sample(id, elapsed, recipe == null, -1));
+    }
+
+    private static boolean producesTaczItem(@Nullable Recipe<?> recipe) {
+        if (recipe == null)
+            return false;
+        try {
+            ItemStack result = recipe.getResultItem(RegistryAccess.EMPTY);
+            ResourceLocation itemId = result.isEmpty() ? null : ForgeRegistries.ITEMS.getKey(result.getItem());
+            return itemId != null && ResultTemplates.TACZ.equals(itemId.getNamespace());
+        } catch (RuntimeException e) {
+            // Some recipes need the real registries to build their result; they are still in the totals
+            return false;
+        }
+    }
+
+    public static void finish(ResourceManager resourceManager) {
+        long trackedNanos = 0;
+        int failures = 0;
+        for (Sample sample : samples) {
+            trackedNanos += sample.nanos();
+            if (sample.failed())
+                failures++;
+        }
+
+        List<Sample> slowest = new ArrayList<>();
+        samples.stream()
+                .sorted(Comparator.comparingLong(Sample::nanos).reversed())
+                .limit(TOP_N)
+                .forEach(sample -> slowest.add(new Sample(sample.id(), sample.nanos(), sample.failed(), fileSize(resourceManager, sample.id()))));
+
+        Report report = new Report(recipes, nanos, samples.size(), trackedNanos, failures, List.copyOf(slowest));
+        lastReport = report;
+        samples.clear();
+
+        CreateImmersiveTacz.LOGGER.info("Parsed {} recipes in {} ms, {} of them from this mod or making TaCZ items in {} ms",
+                report.recipes(), report.nanos() / 1_000_000, report.tracked(), report.trackedNanos() / 1_000_000);
+        for (Sample sample : report.slowest())
+            CreateImmersiveTacz.LOGGER.info("  {} us  {} ({} bytes){}", sample.nanos() / 1000, sample.id(), sample.bytes(),
+                    sample.failed() ? " FAILED" : "");
+    }
+
+    // Only looked up for the slowest few, so the reload doesn't read every file a second time
+    private static long fileSize(ResourceManager resourceManager, ResourceLocation id) {
+        Optional<Resource> resource = resourceManager.getResource(id.withPrefix("recipes/").withSuffix(".json"));
+        if (resource.isEmpty())
+            return -1;
+        try (InputStream in = resource.get().open()) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    public static Report getLastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,108 @@
+package net.myr.createimmersivetacz.stats;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Times the mod's startup phases and every object it registers, and writes them to
+ * {@code logs/createimmersivetacz-startup.json} once loading completes. Setup phases run on the parallel loading
+ * threads, so every write goes through a lock.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID, bus = Mod.EventBusSubscriber.Bus.MOD)
+public class StartupReport {
+    public static final String CONSTRUCT = "construct";
+    public static final String CONFIG_LOAD = "config_load";
+    public static final String COMMON_SETUP = "common_setup";
+    public static final String CLIENT_SETUP = "client_setup";
+    public static final String RENDER_LAYERS = "render_layers";
+
+    private static final String REGISTRY_POPULATION = "registry_population";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Object LOCK = new Object();
+    private static final Map<String, Long> PHASES = new LinkedHashMap<>();
+    private static final Map<ResourceLocation, Map<ResourceLocation, Long>> REGISTRIES = new LinkedHashMap<>();
+    private static boolean written;
+
+    public static void record(String phase, long nanos) {
+        synchronized (LOCK) {
+            PHASES.merge(phase, nanos, Long::sum);
+        }
+    }
+
+    public static void time(String phase, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Called for every object a {@code DeferredRegister} of this mod creates, with the time its supplier took.
+     */
+    public static void recordObject(ResourceKey<?> registry, ResourceLocation id, long nanos) {
+        synchronized (LOCK) {
+            REGISTRIES.computeIfAbsent(registry.location(), key -> new LinkedHashMap<>()).merge(id, nanos, Long::sum);
+            PHASES.merge(REGISTRY_POPULATION, nanos, Long::sum);
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onLoadComplete(FMLLoadCompleteEvent event) {
+        JsonObject report = new JsonObject();
+        synchronized (LOCK) {
+            if (written)
+                return;
+            written = true;
+            report.addProperty("mod", CreateImmersiveTacz.MOD_ID);
+            report.addProperty("version", ModList.get().getModContainerById(CreateImmersiveTacz.MOD_ID)
+                    .map(container -> container.getModInfo().getVersion().toString()).orElse("unknown"));
+            report.addProperty("dist", FMLEnvironment.dist.name());
+
+            JsonObject phases = new JsonObject();
+            PHASES.forEach((phase, nanos) -> phases.addProperty(phase + "_nanos", nanos));
+            report.add("phases", phases);
+
+            JsonObject registries = new JsonObject();
+            REGISTRIES.forEach((registry, objects) -> {
+                JsonObject entry = new JsonObject();
+                entry.addProperty("count", objects.size());
+                entry.addProperty("total_nanos", objects.values().stream().mapToLong(Long::longValue).sum());
+                JsonObject perObject = new JsonObject();
+                objects.forEach((id, nanos) -> perObject.addProperty(id.toString(), nanos));
+                entry.add("objects_nanos", perObject);
+                registries.add(registry.toString(), entry);
+            });
+            report.add("registries", registries);
+        }
+
+        Path file = FMLPaths.GAMEDIR.get().resolve("logs").resolve(CreateImmersiveTacz.MOD_ID + "-startup.json");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, GSON.toJson(report), StandardCharsets.UTF_8);
+            CreateImmersiveTacz.LOGGER.debug("Wrote startup report to {}", file);
+        } catch (IOException e) {
+            CreateImmersiveTacz.LOGGER.warn("Couldn't write startup report to {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package net.myr.createimmersivetacz.stats;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.myr.createimmersivetacz.CreateImmersiveTacz;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backs {@code /cit profile}: for a fixed number of ticks every {@link TickTimer} measurement is written into a ring
+ * buffer of primitive samples, which is folded into totals per source, dimension and chunk once at the end of each
+ * server tick. Nothing is allocated or recorded while no profile is running.
+ */
+@Mod.EventBusSubscriber(modid = CreateImmersiveTacz.MOD_ID)
+public class TickProfiler {
+    // Far more samples than the mod takes in one tick, so the buffer only overflows on a pathological server
+    private static final int CAPACITY = 1 << 16;
+    private static final long NO_CHUNK = Long.MIN_VALUE;
+    private static final int MAX_LINES = 10;
+
+    public record Key(String source, @Nullable ResourceKey<Level> dimension, long chunk) {
+    }
+
+    public record Result(Key key, long nanos, long samples) {
+    }
+
+    @Nullable
+    private static Session session;
+
+    /**
+     * @return false if a profile is already running
+     */
+    public static boolean start(CommandSourceStack source, int ticks) {
+        if (session != null)
+            return false;
+        session = new Session(source, ticks);
+        TickTimer.setProfiling(true);
+        return true;
+    }
+
+    public static boolean isRunning() {
+        return session != null;
+    }
+
+    static void record(String source, @Nullable Level level, @Nullable BlockPos pos, long nanos) {
+        Session current = session;
+        if (current == null)
+            return;
+        if (current.head - current.tail == CAPACITY) {
+            current.dropped++;
+            return;
+        }
+        int index = current.head++ & (CAPACITY - 1);
+        current.sources[index] = source;
+        current.dimensions[index] = level == null ? null : level.dimension();
+        current.chunks[index] = pos == null ? NO_CHUNK : ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        current.nanos[index] = nanos;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        Session current = session;
+        if (event.phase != TickEvent.Phase.END || current == null)
+            return;
+        current.drain();
+        if (++current.ticks >= current.targetTicks)
+            finish(current);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        if (session != null) {
+            session = null;
+            TickTimer.setProfiling(false);
+        }
+    }
+
+    private static void finish(Session finished) {
+        session = null;
+        TickTimer.setProfiling(false);
+
+        List<Result> results = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<Key, long[]> entry : finished.totals.entrySet()) {
+            results.add(new Result(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+            total += entry.getValue()[0];
+        }
+        results.sort(Comparator.comparingLong(Result::nanos).reversed());
+
+        CommandSourceStack source = finished.source;
+        int ticks = finished.ticks;
+        long perTick = total / ticks;
+        source.sendSuccess(() -> Component.literal(String.format("Profiled %,d ticks: %,d ns/tick in the mod's machines",
+                ticks, perTick)), false);
+        for (Result result : results.subList(0, Math.min(MAX_LINES, results.size()))) {
+            Key key = result.key();
+            String dimension = key.dimension() == null ? "-" : key.dimension().location().toString();
+            String chunk = key.chunk() == NO_CHUNK ? "-"
+                    : "[" + ChunkPos.getX(key.chunk()) + ", " + ChunkPos.getZ(key.chunk()) + "]";
+            source.sendSuccess(() -> Component.literal(String.format("%,d ns/tick  %s in %s chunk %s  (%,d samples)",
+                    result.nanos() / ticks, key.source(), dimension, chunk, result.samples())), false);
+        }
+        if (finished.dropped > 0) {
+            long dropped = finished.dropped;
+            source.sendSuccess(() -> Component.literal(String.format("%,d samples dropped, the buffer was full", dropped)), false);
+        }
+    }
+
+    private static class Session {
+        private final CommandSourceStack source;
+        private final int targetTicks;
+        private final String[] sources = new String[CAPACITY];
+        @SuppressWarnings("unchecked")
+        private final ResourceKey<Level>[] dimensions = new ResourceKey[CAPACITY];
+        private final long[] chunks = new long[CAPACITY];
+        private final long[] nanos = new long[CAPACITY];
+        // Monotonic counters, masked into the buffer; head - tail is the number of samples waiting
+        private int head;
+        private int tail;
+        private final Map<Key, long[]> totals = new HashMap<>();
+        private long dropped;
+        private int ticks;
+
+        private Session(CommandSourceStack source, int targetTicks) {
+            this.source = source;
+            this.targetTicks = Math.max(1, targetTicks);
+        }
+
+        private void drain() {
+            while (tail != head) {
+                int index = tail++ & (CAPACITY - 1);
+                long[] total = totals.computeIfAbsent(new Key(sources[index], dimensions[index], chunks[index]), key -> new long[2]);
+                total[0] += nanos[index];
+                total[1]++;
+                sources[index] = null;
+                dimensions[index] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package net.myr.createimmersivetacz.stats;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Measures the wall time the server thread spends in the mod's machines, recipe callbacks and fluid ticks, for the
+ * gametests, {@link TickProfiler} and {@link ModMetrics}. Timing is off unless one of them asks for it, in which case {@link #begin()}
+ * costs a single field read.
+ * <pre>{@code
+ * long start = TickTimer.begin();
+ * ...
+ * TickTimer.end(start, "ammo_press", level, worldPosition);
+ * }</pre>
+ */
+public class TickTimer {
+    // How many gametest runs currently want timing, so one finishing doesn't switch it off under another
+    private static int enabledRuns;
+    private static boolean profiling;
+    private static boolean metrics;
+    private static boolean active;
+    private static long tickNanos;
+    private static long totalNanos;
+
+    /**
+     * Turns timing on for a gametest run; every call must be matched by one {@link #disable()}, including when the run
+     * fails.
+     */
+    public static void enable() {
+        enabledRuns++;
+        tickNanos = 0;
+        updateActive();
+    }
+
+    public static void disable() {
+        enabledRuns = Math.max(0, enabledRuns - 1);
+        updateActive();
+    }
+
+    static void setProfiling(boolean profiling) {
+        TickTimer.profiling = profiling;
+        updateActive();
+    }
+
+    static void setMetrics(boolean metrics) {
+        TickTimer.metrics = metrics;
+        updateActive();
+    }
+
+    private static void updateActive() {
+        active = enabledRuns > 0 || profiling || metrics;
+    }
+
+    public static boolean isEnabled() {
+        return enabledRuns > 0;
+    }
+
+    /**
+     * @return the start time to pass to {@link #end}, or 0 while timing is off
+     */
+    public static long begin() {
+        return active ? System.nanoTime() : 0L;
+    }
+
+    public static void end(long start, String source, @Nullable Level level, @Nullable BlockPos pos) {
+        if (start == 0L)
+            return;
+        long nanos = System.nanoTime() - start;
+        tickNanos += nanos;
+        totalNanos += nanos;
+        if (profiling)
+            TickProfiler.record(source, level, pos, nanos);
+    }
+
+    /**
+     * @return the nanos measured since the last call, which then start again from zero
+     */
+    public static long takeTickNanos() {
+        long nanos = tickNanos;
+        tickNanos = 0;
+        return nanos;
+    }
+
+    /**
+     * @return every nano measured so far, never reset; only read this on the server thread
+     */
+    static long getTotalNanos() {
+        return totalNanos;
+    }
+}